@@ -0,0 +1,78 @@
+package exodus_benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import exodus_world.Area;
+import exodus_world.AreaBank;
+
+/**
+ * This benchmark measures how fast the active areas can be found
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AreaBankBenchmark
+{
+	// ATTRIBUTES	--------------------------
+	
+	/**
+	 * How many areas are active during the benchmark
+	 */
+	@Param({"1", "100"})
+	public int activeAreaAmount;
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Starts the areas
+	 * @param world The benchmark world
+	 */
+	@Setup
+	public void setUp(BenchmarkWorld world)
+	{
+		for (int i = 0; i < this.activeAreaAmount; i++)
+		{
+			getArea(i).start(false);
+		}
+	}
+	
+	/**
+	 * Ends the areas
+	 */
+	@TearDown
+	public void tearDown()
+	{
+		for (int i = 0; i < this.activeAreaAmount; i++)
+		{
+			getArea(i).end();
+		}
+	}
+	
+	/**
+	 * @return The amount of active areas
+	 */
+	@Benchmark
+	public int getActiveAreas()
+	{
+		return AreaBank.getActiveAreas().size();
+	}
+	
+	private static Area getArea(int index)
+	{
+		return AreaBank.getArea(BenchmarkWorld.BANK_NAME, BenchmarkWorld.getAreaName(index));
+	}
+}
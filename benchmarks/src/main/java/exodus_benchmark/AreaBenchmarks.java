@@ -0,0 +1,49 @@
+package exodus_benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class runs the area subsystem benchmarks with the allocation profiler (-prof gc) 
+ * enabled so that the results of the legacy exodus_world package and the newer 
+ * utopia.exodus package can be compared. The benchmarks should be run from the 
+ * repository root since they use the data directory.
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class AreaBenchmarks
+{
+	// CONSTRUCTOR	--------------------------
+	
+	private AreaBenchmarks()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// MAIN METHOD	-------------------------
+	
+	/**
+	 * Runs the benchmarks
+	 * @param args The normal JMH command line options. All the area benchmarks are run if 
+	 * no benchmarks are selected.
+	 * @throws CommandLineOptionException If the options were malformed
+	 * @throws RunnerException If the benchmarks couldn't be run
+	 */
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException
+	{
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine).addProfiler( 
+				GCProfiler.class);
+		if (commandLine.getIncludes().isEmpty())
+			options.include(AreaBenchmarks.class.getPackage().getName() + "\\..*");
+		
+		new Runner(options.build()).run();
+	}
+}
@@ -0,0 +1,130 @@
+package exodus_benchmark;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import exodus_world.AreaGraph;
+import exodus_world.AreaGraphFiles;
+import exodus_world.EdgeDataCodec;
+import flow_structure.GraphNode;
+
+/**
+ * These benchmarks measure how fast a large graph of all the generated areas can be 
+ * searched, traversed and read from a file
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AreaGraphBenchmark
+{
+	// ATTRIBUTES	--------------------------
+	
+	private static final String GRAPH_FILE = BenchmarkWorld.getFileName("graph.bin");
+	
+	private final IntegerCodec codec = new IntegerCodec();
+	private AreaGraph<Integer> graph;
+	private String[] names;
+	private int[] routes;
+	private int nextIndex = 0;
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Creates the graph and writes it into a file
+	 * @param world The benchmark world
+	 * @throws IOException If the graph couldn't be written
+	 */
+	@Setup
+	public void setUp(BenchmarkWorld world) throws IOException
+	{
+		this.graph = BenchmarkWorld.createGraph();
+		this.graph.moveTo(BenchmarkWorld.getAreaName(0));
+		AreaGraphFiles.writeGraph(this.graph, this.codec, GRAPH_FILE, false);
+		
+		int[] indices = BenchmarkWorld.createRandomIndices(4096, BenchmarkWorld.AREA_AMOUNT);
+		this.names = new String[indices.length];
+		for (int i = 0; i < indices.length; i++)
+		{
+			this.names[i] = BenchmarkWorld.getAreaName(indices[i]);
+		}
+		
+		// Each area has routes 1 and 2
+		this.routes = BenchmarkWorld.createRandomIndices(4096, 2);
+	}
+	
+	/**
+	 * Ends the current area
+	 */
+	@TearDown
+	public void tearDown()
+	{
+		this.graph.getCurrentArea().getData().end();
+	}
+	
+	/**
+	 * @return An area found by its name
+	 */
+	@Benchmark
+	public GraphNode<exodus_world.Area, Integer> findArea()
+	{
+		return this.graph.findArea(this.names[next(this.names.length)]);
+	}
+	
+	/**
+	 * @return Was the move successful
+	 */
+	@Benchmark
+	public boolean moveAlong()
+	{
+		return this.graph.moveAlong(this.routes[next(this.routes.length)] + 1);
+	}
+	
+	/**
+	 * @return A graph read from a file
+	 * @throws IOException If the graph couldn't be read
+	 */
+	@Benchmark
+	public AreaGraph<Integer> readGraph() throws IOException
+	{
+		return AreaGraphFiles.readGraph(GRAPH_FILE, this.codec);
+	}
+	
+	private int next(int bound)
+	{
+		this.nextIndex = (this.nextIndex + 1) % bound;
+		return this.nextIndex;
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	private static class IntegerCodec implements EdgeDataCodec<Integer>
+	{
+		@Override
+		public void write(Integer data, DataOutput output) throws IOException
+		{
+			output.writeInt(data);
+		}
+		
+		@Override
+		public Integer read(DataInput input) throws IOException
+		{
+			return input.readInt();
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package exodus_benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import exodus_world.Area;
+import exodus_world.AreaParser;
+import flow_recording.ObjectFormatException;
+
+/**
+ * These benchmarks measure how fast areas are parsed from and written into manifest lines
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AreaParserBenchmark
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final AreaParser parser = new AreaParser();
+	private Area area;
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Creates the area that is written
+	 * @param world The benchmark world
+	 * @throws ObjectFormatException If the area couldn't be parsed
+	 */
+	@Setup
+	public void setUp(BenchmarkWorld world) throws ObjectFormatException
+	{
+		this.area = this.parser.parseFromString("written#test#phase1");
+	}
+	
+	/**
+	 * @return An area parsed from a manifest line
+	 * @throws ObjectFormatException If the area couldn't be parsed
+	 */
+	@Benchmark
+	public Area parseFromString() throws ObjectFormatException
+	{
+		return this.parser.parseFromString("parsed#test#phase1");
+	}
+	
+	/**
+	 * @return A manifest line that describes the area
+	 */
+	@Benchmark
+	public String parseToString()
+	{
+		return this.parser.parseToString(this.area);
+	}
+}
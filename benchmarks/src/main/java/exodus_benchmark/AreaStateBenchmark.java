@@ -0,0 +1,83 @@
+package exodus_benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import exodus_world.Area;
+import exodus_world.AreaBank;
+
+/**
+ * These benchmarks measure how fast the legacy and the utopia.exodus areas change their 
+ * states
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AreaStateBenchmark
+{
+	// ATTRIBUTES	--------------------------
+	
+	private Area legacyArea;
+	private utopia.exodus.world.Area utopiaArea;
+	private boolean legacyActive = false, utopiaActive = false;
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Prepares the areas
+	 * @param world The benchmark world
+	 */
+	@Setup
+	public void setUp(BenchmarkWorld world)
+	{
+		this.legacyArea = AreaBank.getArea(BenchmarkWorld.BANK_NAME, 
+				BenchmarkWorld.getAreaName(0));
+		this.utopiaArea = new utopia.exodus.world.Area("benchmark", 
+				new utopia.inception.handling.HandlerRelay());
+	}
+	
+	/**
+	 * Ends the legacy area
+	 */
+	@TearDown
+	public void tearDown()
+	{
+		this.legacyArea.end();
+	}
+	
+	/**
+	 * Starts or ends the legacy area
+	 */
+	@Benchmark
+	public void legacyStartEnd()
+	{
+		this.legacyActive = !this.legacyActive;
+		if (this.legacyActive)
+			this.legacyArea.start(false);
+		else
+			this.legacyArea.end();
+	}
+	
+	/**
+	 * Activates or pauses the utopia.exodus area
+	 */
+	@Benchmark
+	public void utopiaSetState()
+	{
+		this.utopiaActive = !this.utopiaActive;
+		this.utopiaArea.setState(this.utopiaActive ? utopia.exodus.world.Area.State.ACTIVE : 
+				utopia.exodus.world.Area.State.PAUSED);
+	}
+}
@@ -0,0 +1,80 @@
+package exodus_benchmark;
+
+import flow_recording.Constructable;
+import genesis_event.HandlerRelay;
+import genesis_util.SimpleHandled;
+
+/**
+ * BenchmarkObjects are the simple objects created from the generated object file
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class BenchmarkObject extends SimpleHandled implements Constructable<BenchmarkObject>
+{
+	// ATTRIBUTES	--------------------------
+	
+	private String id;
+	private int x, y;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new object
+	 * @param handlers The handlers the object is added to
+	 */
+	public BenchmarkObject(HandlerRelay handlers)
+	{
+		super(handlers);
+	}
+	
+	
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	public String getID()
+	{
+		return this.id;
+	}
+	
+	@Override
+	public void setID(String id)
+	{
+		this.id = id;
+	}
+	
+	@Override
+	public void setAttribute(String attributeName, String attributeValue)
+	{
+		if (attributeName.equals("x"))
+			this.x = Integer.parseInt(attributeValue);
+		else if (attributeName.equals("y"))
+			this.y = Integer.parseInt(attributeValue);
+	}
+	
+	@Override
+	public void setLink(String linkName, BenchmarkObject target)
+	{
+		// Doesn't use links
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return The x-coordinate of the object
+	 */
+	public int getX()
+	{
+		return this.x;
+	}
+	
+	/**
+	 * @return The y-coordinate of the object
+	 */
+	public int getY()
+	{
+		return this.y;
+	}
+}
@@ -0,0 +1,38 @@
+package exodus_benchmark;
+
+import exodus_world.AreaObjectConstructor;
+import genesis_event.HandlerRelay;
+
+/**
+ * This constructor creates {@link BenchmarkObject}s
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class BenchmarkObjectConstructor extends AreaObjectConstructor<BenchmarkObject>
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final HandlerRelay targetHandlers;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new constructor
+	 * @param targetHandlers The handlers the objects are added to
+	 */
+	public BenchmarkObjectConstructor(HandlerRelay targetHandlers)
+	{
+		this.targetHandlers = targetHandlers;
+	}
+	
+	
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	protected BenchmarkObject createConstructable(String instruction)
+	{
+		return new BenchmarkObject(this.targetHandlers);
+	}
+}
@@ -0,0 +1,23 @@
+package exodus_benchmark;
+
+import exodus_world.Area;
+import exodus_world.AreaObjectConstructorProvider;
+import flow_recording.AbstractConstructor;
+
+/**
+ * This provider gives each area a {@link BenchmarkObjectConstructor}
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class BenchmarkObjectConstructorProvider implements 
+		AreaObjectConstructorProvider<BenchmarkObject>
+{
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	public AbstractConstructor<BenchmarkObject> getConstructor(Area targetArea)
+	{
+		return new BenchmarkObjectConstructor(targetArea.getHandlers());
+	}
+}
@@ -0,0 +1,212 @@
+package exodus_benchmark;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import arc_bank.GamePhaseBank;
+import exodus_world.AreaBank;
+import exodus_world.AreaGraph;
+import exodus_world.AreaMetrics;
+
+/**
+ * BenchmarkWorld generates the benchmark area and object files and loads the benchmark 
+ * area bank. The files are written under data/testing/benchmark and removed when the 
+ * benchmark JVM exits.
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+public class BenchmarkWorld
+{
+	// ATTRIBUTES	--------------------------
+	
+	/**
+	 * The name of the generated area bank
+	 */
+	public static final String BANK_NAME = "benchmark";
+	/**
+	 * The name of the generated area that creates objects
+	 */
+	public static final String OBJECT_AREA_NAME = "objects";
+	/**
+	 * The amount of generated areas (not counting the object area)
+	 */
+	public static final int AREA_AMOUNT = 10000;
+	/**
+	 * The amount of objects in the generated object file
+	 */
+	public static final int OBJECT_AMOUNT = 1000;
+	
+	private static final String DIRECTORY = "testing/benchmark/";
+	private static final String MANIFEST_FILE = DIRECTORY + "areas.txt";
+	private static final String OBJECT_FILE = DIRECTORY + "objects.txt";
+	
+	// The resources can only be initialized once in each JVM
+	private static boolean initialized = false;
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Writes the files and loads the benchmark areas
+	 * @throws IOException If the files couldn't be written
+	 */
+	@Setup
+	public void setUp() throws IOException
+	{
+		synchronized (BenchmarkWorld.class)
+		{
+			if (initialized)
+				return;
+			
+			// The benchmark areas shouldn't show up in the JMX console
+			AreaMetrics.setRegistrationEnabled(false);
+			
+			GamePhaseBank.initializeGamePhaseResources("testing/gamePhases.txt", "test");
+			writeFiles();
+			Runtime.getRuntime().addShutdownHook(new Thread()
+			{
+				@Override
+				public void run()
+				{
+					deleteFiles();
+				}
+			});
+			AreaBank.initializeAreaResourcesLazily(MANIFEST_FILE, null, 
+					new BenchmarkObjectConstructorProvider());
+			AreaBank.activateAreaBank(BANK_NAME);
+			
+			initialized = true;
+		}
+	}
+	
+	/**
+	 * @param index The index of an area
+	 * @return The name of the generated area with the given index
+	 */
+	public static String getAreaName(int index)
+	{
+		return "area" + index;
+	}
+	
+	/**
+	 * @param fileName The name of a file
+	 * @return The name of the file in the benchmark directory ("data/" not included)
+	 */
+	public static String getFileName(String fileName)
+	{
+		return DIRECTORY + fileName;
+	}
+	
+	/**
+	 * Creates the contents of the generated object file
+	 * @return The contents of the object file
+	 */
+	public static String generateObjects()
+	{
+		StringBuilder objects = new StringBuilder();
+		objects.append("* Generated by the area benchmarks\n");
+		for (int i = 0; i < OBJECT_AMOUNT; i++)
+		{
+			objects.append("object").append(i).append('\n');
+			objects.append("x=").append(i).append('\n');
+			objects.append("y=").append(i * 2).append('\n');
+		}
+		
+		return objects.toString();
+	}
+	
+	/**
+	 * Creates a graph of all the generated areas. Each area is connected to the next one 
+	 * (route 1) and to a more distant one (route 2).
+	 * @return A graph of the generated areas
+	 */
+	public static AreaGraph<Integer> createGraph()
+	{
+		AreaGraph<Integer> graph = new AreaGraph<>(BANK_NAME, false);
+		for (int i = 0; i < AREA_AMOUNT; i++)
+		{
+			graph.addArea(getAreaName(i));
+		}
+		for (int i = 0; i < AREA_AMOUNT; i++)
+		{
+			graph.connectAreas(getAreaName(i), getAreaName((i + 1) % AREA_AMOUNT), 1, false, 
+					false);
+			graph.connectAreas(getAreaName(i), getAreaName((i * 31 + 7) % AREA_AMOUNT), 2, 
+					false, false);
+		}
+		
+		return graph;
+	}
+	
+	/**
+	 * Creates a sequence of random indices. The same sequence is created each time so that 
+	 * the results are comparable.
+	 * @param amount The amount of indices
+	 * @param bound The upper bound of the indices (exclusive)
+	 * @return The random indices
+	 */
+	public static int[] createRandomIndices(int amount, int bound)
+	{
+		Random random = new Random(1234);
+		int[] indices = new int[amount];
+		for (int i = 0; i < amount; i++)
+		{
+			indices[i] = random.nextInt(bound);
+		}
+		
+		return indices;
+	}
+	
+	private static void writeFiles() throws IOException
+	{
+		StringBuilder manifest = new StringBuilder();
+		manifest.append('&').append(BANK_NAME).append('\n');
+		for (int i = 0; i < AREA_AMOUNT; i++)
+		{
+			manifest.append(getAreaName(i)).append("#test#phase1\n");
+		}
+		manifest.append(OBJECT_AREA_NAME).append("#test#phase1#").append(OBJECT_FILE).append( 
+				'\n');
+		write(MANIFEST_FILE, manifest);
+		
+		write(OBJECT_FILE, generateObjects());
+	}
+	
+	private static void deleteFiles()
+	{
+		Path directory = Paths.get("data", DIRECTORY);
+		try
+		{
+			try (DirectoryStream<Path> files = Files.newDirectoryStream(directory))
+			{
+				for (Path file : files)
+				{
+					Files.delete(file);
+				}
+			}
+			Files.delete(directory);
+		}
+		catch (IOException e)
+		{
+			System.err.println("Couldn't remove the benchmark files from " + directory);
+		}
+	}
+	
+	private static void write(String fileName, CharSequence contents) throws IOException
+	{
+		Path path = Paths.get("data", fileName);
+		Files.createDirectories(path.getParent());
+		Files.write(path, contents.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
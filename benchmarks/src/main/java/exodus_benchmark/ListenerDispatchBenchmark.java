@@ -0,0 +1,89 @@
+package exodus_benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import exodus_world.Area;
+import exodus_world.AreaListener;
+import exodus_world.AreaParser;
+import flow_recording.ObjectFormatException;
+import genesis_event.HandlerRelay;
+import genesis_util.SimpleHandled;
+
+/**
+ * This benchmark measures how fast the area listeners are informed about state changes
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ListenerDispatchBenchmark
+{
+	// ATTRIBUTES	--------------------------
+	
+	/**
+	 * How many listeners are informed
+	 */
+	@Param({"1", "10", "100", "1000", "10000"})
+	public int listenerAmount;
+	
+	private Area area;
+	private boolean newState = false;
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Creates the area and its listeners
+	 * @param world The benchmark world
+	 * @throws ObjectFormatException If the area couldn't be parsed
+	 */
+	@Setup
+	public void setUp(BenchmarkWorld world) throws ObjectFormatException
+	{
+		this.area = new AreaParser().parseFromString("listeners#test#phase1");
+		for (int i = 0; i < this.listenerAmount; i++)
+		{
+			this.area.getListenerHandler().add(new CountingListener(this.area.getHandlers()));
+		}
+	}
+	
+	/**
+	 * Informs the listeners about a state change
+	 */
+	@Benchmark
+	public void dispatch()
+	{
+		this.newState = !this.newState;
+		this.area.getListenerHandler().onAreaStateChange(this.area, this.newState);
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	private static class CountingListener extends SimpleHandled implements AreaListener
+	{
+		private int events = 0;
+		
+		public CountingListener(HandlerRelay handlers)
+		{
+			super(handlers);
+		}
+		
+		@Override
+		public void onAreaStateChange(Area area, boolean newState)
+		{
+			this.events ++;
+		}
+	}
+}
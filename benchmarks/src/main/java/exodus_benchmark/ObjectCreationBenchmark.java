@@ -0,0 +1,90 @@
+package exodus_benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import exodus_world.Area;
+import exodus_world.AreaBank;
+import exodus_world.AreaObjectBlueprint;
+import genesis_event.HandlerRelay;
+
+/**
+ * These benchmarks measure how fast the objects of the generated object file are 
+ * constructed
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ObjectCreationBenchmark
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final String objectFile = BenchmarkWorld.generateObjects();
+	private final BenchmarkObjectConstructor constructor = 
+			new BenchmarkObjectConstructor(new HandlerRelay());
+	private Area area;
+	private boolean active = false;
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Finds the area that creates the objects
+	 * @param world The benchmark world
+	 */
+	@Setup
+	public void setUp(BenchmarkWorld world)
+	{
+		this.area = AreaBank.getArea(BenchmarkWorld.BANK_NAME, 
+				BenchmarkWorld.OBJECT_AREA_NAME);
+	}
+	
+	/**
+	 * Ends the area
+	 */
+	@TearDown
+	public void tearDown()
+	{
+		this.area.end();
+	}
+	
+	/**
+	 * @return The objects constructed from the object file
+	 * @throws IOException If the object file couldn't be read
+	 */
+	@Benchmark
+	public List<BenchmarkObject> constructFromBlueprint() throws IOException
+	{
+		AreaObjectBlueprint blueprint = AreaObjectBlueprint.read(new BufferedReader( 
+				new StringReader(this.objectFile)));
+		return this.constructor.construct(blueprint);
+	}
+	
+	/**
+	 * Starts or ends the area, which creates or removes its objects
+	 */
+	@Benchmark
+	public void areaStartEnd()
+	{
+		this.active = !this.active;
+		if (this.active)
+			this.area.start(false);
+		else
+			this.area.end();
+	}
+}
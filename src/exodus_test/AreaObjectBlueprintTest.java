@@ -0,0 +1,156 @@
+package exodus_test;
+
+import java.io.FileNotFoundException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import exodus_world.AreaObjectBlueprint;
+import exodus_world.AreaObjectConstructor;
+import flow_recording.Constructable;
+import flow_recording.TextConstructorInstructor;
+import genesis_event.HandlerRelay;
+import genesis_util.SimpleHandled;
+
+/**
+ * This class checks that constructing objects from a blueprint gives the same objects as 
+ * reading the object file as text. The objects' identifiers, instructions, attributes and 
+ * links are compared.
+ * 
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class AreaObjectBlueprintTest
+{
+	// ATTRIBUTES	--------------------------
+	
+	private static final String[] FILE_NAMES = {"testing/area1.txt", "testing/area2.txt", 
+			"testing/linkedObjects.txt"};
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private AreaObjectBlueprintTest()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// MAIN METHOD	-------------------------
+	
+	/**
+	 * Starts the test
+	 * @param args not used
+	 * @throws FileNotFoundException If a test file couldn't be found
+	 */
+	public static void main(String[] args) throws FileNotFoundException
+	{
+		for (String fileName : FILE_NAMES)
+		{
+			RecordingConstructor textConstructor = new RecordingConstructor();
+			new TextConstructorInstructor(textConstructor).constructFromFile(fileName, "*");
+			Map<String, String> textObjects = describe( 
+					textConstructor.getConstructs().values());
+			
+			AreaObjectBlueprint blueprint = AreaObjectBlueprint.readFromFile(fileName);
+			Map<String, String> blueprintObjects = describe( 
+					new RecordingConstructor().construct(blueprint));
+			
+			if (!textObjects.equals(blueprintObjects))
+				throw new AssertionError("The objects of " + fileName + " differ.\nText: " + 
+						textObjects + "\nBlueprint: " + blueprintObjects);
+			
+			System.out.println(fileName + " ok: " + blueprintObjects);
+		}
+		
+		System.out.println("Success");
+	}
+	
+	
+	// OTHER METHODS	---------------------
+	
+	private static Map<String, String> describe(Collection<RecordingObject> objects)
+	{
+		// The objects are sorted by their identifiers
+		Map<String, String> descriptions = new TreeMap<>();
+		for (RecordingObject object : objects)
+		{
+			descriptions.put(object.getID(), object.toString());
+		}
+		return descriptions;
+	}
+	
+	
+	// SUBCLASSES	------------------------
+	
+	private static class RecordingConstructor extends AreaObjectConstructor<RecordingObject>
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final HandlerRelay handlers = new HandlerRelay();
+		
+		
+		// IMPLEMENTED METHODS	--------------
+		
+		@Override
+		protected RecordingObject createConstructable(String instruction)
+		{
+			return new RecordingObject(this.handlers, instruction);
+		}
+	}
+	
+	private static class RecordingObject extends SimpleHandled implements 
+			Constructable<RecordingObject>
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final String instruction;
+		private String id;
+		private final Map<String, String> attributes = new LinkedHashMap<>();
+		private final Map<String, String> links = new TreeMap<>();
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public RecordingObject(HandlerRelay handlers, String instruction)
+		{
+			super(handlers);
+			
+			this.instruction = instruction;
+		}
+		
+		
+		// IMPLEMENTED METHODS	--------------
+		
+		@Override
+		public String getID()
+		{
+			return this.id;
+		}
+		
+		@Override
+		public void setID(String id)
+		{
+			this.id = id;
+		}
+		
+		@Override
+		public void setAttribute(String attributeName, String attributeValue)
+		{
+			this.attributes.put(attributeName, attributeValue);
+		}
+		
+		@Override
+		public void setLink(String linkName, RecordingObject target)
+		{
+			this.links.put(linkName, target.getID());
+		}
+		
+		@Override
+		public String toString()
+		{
+			return this.instruction + " " + this.attributes + " links " + this.links;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package exodus_test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import exodus_world.Area;
+import exodus_world.AreaObjectCreator;
+import flow_recording.AbstractConstructor;
+import genesis_event.ActorHandler;
+import genesis_event.HandlerRelay;
+import arc_bank.GamePhaseBank;
+
+/**
+ * This class checks that an area's objects are removed over multiple frames after the area 
+ * has ended. The removal is done by the window's handlers, which keep acting while the 
+ * area is inactive.
+ * 
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class AreaObjectTeardownTest
+{
+	// ATTRIBUTES	--------------------------
+	
+	// The budget is so small that a single object is removed each frame
+	private static final double FRAME_BUDGET_MILLIS = 0.000001;
+	private static final double FRAME_DURATION = 1;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private AreaObjectTeardownTest()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// MAIN METHOD	-------------------------
+	
+	/**
+	 * Starts the test
+	 * @param args not used
+	 */
+	public static void main(String[] args)
+	{
+		GamePhaseBank.initializeGamePhaseResources("testing/gamePhases.txt", "test");
+		
+		HandlerRelay areaHandlers = new HandlerRelay();
+		areaHandlers.addHandler(new ActorHandler(false, null));
+		HandlerRelay windowHandlers = new HandlerRelay();
+		ActorHandler windowActors = new ActorHandler(false, null);
+		windowHandlers.addHandler(windowActors);
+		
+		Area area = new Area("teardownTest", areaHandlers, "test", "phase1", 
+				"testing/area1.txt");
+		AbstractConstructor<ConstructableTestObject> constructor = 
+				new TestObjectConstructorProvider().getConstructor(area);
+		AreaObjectCreator<ConstructableTestObject> creator = 
+				new AreaObjectCreator<>(constructor, area);
+		
+		// The objects are created all at once, the budget only affects their removal
+		area.start(false);
+		List<ConstructableTestObject> objects = 
+				new ArrayList<>(constructor.getConstructs().values());
+		if (objects.isEmpty())
+			throw new AssertionError("No objects were created");
+		
+		creator.setFrameBudget(FRAME_BUDGET_MILLIS, windowHandlers);
+		area.end();
+		
+		int liveObjects = countLiveObjects(objects);
+		System.out.println("Objects alive after the area ended: " + liveObjects + "/" + 
+				objects.size());
+		if (liveObjects == 0)
+			throw new AssertionError("The objects were removed at once");
+		
+		for (int frame = 1; frame <= objects.size(); frame++)
+		{
+			windowActors.act(FRAME_DURATION);
+			System.out.println("Objects alive after frame " + frame + ": " + 
+					countLiveObjects(objects));
+		}
+		
+		if (area.getIsActiveStateOperator().getState())
+			throw new AssertionError("The area was activated during the test");
+		liveObjects = countLiveObjects(objects);
+		if (liveObjects > 0)
+			throw new AssertionError(liveObjects + " objects are still alive after " + 
+					objects.size() + " frames");
+		
+		System.out.println("Success");
+	}
+	
+	
+	// OTHER METHODS	---------------------
+	
+	private static int countLiveObjects(List<ConstructableTestObject> objects)
+	{
+		int liveObjects = 0;
+		for (ConstructableTestObject object : objects)
+		{
+			if (!object.getIsDeadStateOperator().getState())
+				liveObjects ++;
+		}
+		return liveObjects;
+	}
+}
@@ -0,0 +1,123 @@
+package exodus_test;
+
+import java.lang.management.ManagementFactory;
+
+import utopia.exodus.event.AreaEvent;
+import utopia.exodus.event.AreaListenerHandler;
+import utopia.exodus.world.Area;
+import utopia.inception.handling.HandlerRelay;
+
+/**
+ * This class checks that changing an area's state doesn't allocate any memory once the 
+ * area has been warmed up. The state is changed repeatedly while a listener is informed 
+ * about each transition.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class AreaStateAllocationTest
+{
+	// ATTRIBUTES	--------------------------
+	
+	private static final int WARMUP_ROUNDS = 200000;
+	private static final int MEASURED_ROUNDS = 1000000;
+	private static final Area.State[] STATES = {Area.State.ACTIVE, Area.State.PAUSED, 
+			Area.State.ACTIVE, Area.State.INACTIVE};
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private AreaStateAllocationTest()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// MAIN METHOD	-------------------------
+	
+	/**
+	 * Starts the test
+	 * @param args not used
+	 */
+	public static void main(String[] args)
+	{
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean))
+		{
+			System.out.println("Thread allocation measurement is not supported");
+			return;
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+		if (!threads.isThreadAllocatedMemorySupported())
+		{
+			System.out.println("Thread allocation measurement is not supported");
+			return;
+		}
+		threads.setThreadAllocatedMemoryEnabled(true);
+		
+		Area area = new Area("test", new HandlerRelay());
+		CountingListener listener = new CountingListener();
+		area.getListenerHandler().add(listener);
+		
+		// Warms up so that the events and the JIT compiled code are in place
+		changeStates(area, WARMUP_ROUNDS);
+		
+		// The measurement itself may allocate a little, which is left out of the result
+		long threadID = Thread.currentThread().getId();
+		long overheadStart = threads.getThreadAllocatedBytes(threadID);
+		long overhead = threads.getThreadAllocatedBytes(threadID) - overheadStart;
+		
+		long start = threads.getThreadAllocatedBytes(threadID);
+		changeStates(area, MEASURED_ROUNDS);
+		long allocated = threads.getThreadAllocatedBytes(threadID) - start - overhead;
+		
+		System.out.println("State changes: " + MEASURED_ROUNDS * STATES.length + 
+				", events received: " + listener.getEventAmount());
+		System.out.println("Allocated bytes: " + allocated);
+		
+		if (allocated > 0)
+			throw new AssertionError("Area.setState allocated " + allocated + " bytes");
+		System.out.println("Success");
+	}
+	
+	
+	// OTHER METHODS	---------------------
+	
+	private static void changeStates(Area area, int rounds)
+	{
+		for (int i = 0; i < rounds; i++)
+		{
+			for (Area.State state : STATES)
+			{
+				area.setState(state);
+			}
+		}
+	}
+	
+	
+	// SUBCLASSES	------------------------
+	
+	private static class CountingListener extends AreaListenerHandler
+	{
+		// ATTRIBUTES	----------------------
+		
+		private long eventAmount = 0;
+		
+		
+		// IMPLEMENTED METHODS	--------------
+		
+		@Override
+		public void onAreaEvent(AreaEvent event)
+		{
+			this.eventAmount ++;
+		}
+		
+		
+		// ACCESSORS	----------------------
+		
+		public long getEventAmount()
+		{
+			return this.eventAmount;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package exodus_test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import utopia.exodus.event.AreaEvent;
+import utopia.exodus.event.AreaListenerHandler;
+import utopia.exodus.world.Area;
+import utopia.inception.handling.HandlerRelay;
+
+/**
+ * This class changes an area's state from multiple threads at once and checks that the 
+ * transitions the listeners receive are consistent with the area's final state. The 
+ * transitions may be received in any order, but each state change must be informed exactly 
+ * once and the transitions must form a single chain from the initial state to the final 
+ * state.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class AreaStateStressTest
+{
+	// ATTRIBUTES	--------------------------
+	
+	private static final int THREAD_AMOUNT = 8;
+	private static final int CHANGES_PER_THREAD = 200000;
+	private static final int ROUNDS = 5;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private AreaStateStressTest()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// MAIN METHOD	-------------------------
+	
+	/**
+	 * Starts the test
+	 * @param args not used
+	 * @throws InterruptedException If the test was interrupted
+	 */
+	public static void main(String[] args) throws InterruptedException
+	{
+		for (int round = 1; round <= ROUNDS; round++)
+		{
+			Area area = new Area("stress", new HandlerRelay());
+			TransitionRecorder recorder = new TransitionRecorder();
+			area.getListenerHandler().add(recorder);
+			
+			changeStatesConcurrently(area, round);
+			check(area.getState(), recorder);
+			
+			System.out.println("Round " + round + " ok, final state: " + area.getState());
+		}
+		
+		System.out.println("Success");
+	}
+	
+	
+	// OTHER METHODS	---------------------
+	
+	private static void changeStatesConcurrently(final Area area, int round) 
+			throws InterruptedException
+	{
+		final CountDownLatch startSignal = new CountDownLatch(1);
+		Thread[] threads = new Thread[THREAD_AMOUNT];
+		for (int i = 0; i < threads.length; i++)
+		{
+			final Random random = new Random(round * THREAD_AMOUNT + i);
+			threads[i] = new Thread(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					try
+					{
+						startSignal.await();
+					}
+					catch (InterruptedException e)
+					{
+						return;
+					}
+					
+					Area.State[] states = Area.State.values();
+					for (int j = 0; j < CHANGES_PER_THREAD; j++)
+					{
+						area.setState(states[random.nextInt(states.length)]);
+					}
+				}
+			});
+			threads[i].start();
+		}
+		
+		startSignal.countDown();
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+	}
+	
+	private static void check(Area.State finalState, TransitionRecorder recorder)
+	{
+		// Each state change must be informed exactly once
+		int expectedEvents = THREAD_AMOUNT * CHANGES_PER_THREAD;
+		if (recorder.getEventAmount() != expectedEvents)
+			throw new AssertionError("Expected " + expectedEvents + " events but " + 
+					recorder.getEventAmount() + " were received");
+		
+		// When the transitions form a chain, each state is entered as many times as it is
+		// left, except for the initial and the final state
+		for (Area.State state : Area.State.values())
+		{
+			int balance = 0;
+			for (Area.State other : Area.State.values())
+			{
+				if (other != state)
+				{
+					balance += recorder.getTransitionAmount(state, other);
+					balance -= recorder.getTransitionAmount(other, state);
+				}
+			}
+			
+			int expectedBalance = 0;
+			if (state == Area.State.INACTIVE)
+				expectedBalance ++;
+			if (state == finalState)
+				expectedBalance --;
+			
+			if (balance != expectedBalance)
+				throw new AssertionError("The transitions received for " + state + 
+						" don't lead to the final state " + finalState + " (balance " + 
+						balance + ", expected " + expectedBalance + ")");
+		}
+	}
+	
+	
+	// SUBCLASSES	------------------------
+	
+	private static class TransitionRecorder extends AreaListenerHandler
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final AtomicIntegerArray transitionAmounts = 
+				new AtomicIntegerArray(AreaEvent.AreaStateChange.TRANSITION_AMOUNT);
+		
+		
+		// IMPLEMENTED METHODS	--------------
+		
+		@Override
+		public void onAreaEvent(AreaEvent event)
+		{
+			this.transitionAmounts.incrementAndGet(event.getStateChange().getTransitionIndex());
+		}
+		
+		
+		// ACCESSORS	----------------------
+		
+		public int getTransitionAmount(Area.State previousState, Area.State newState)
+		{
+			return this.transitionAmounts.get(AreaEvent.AreaStateChange.getTransitionIndex( 
+					previousState, newState));
+		}
+		
+		public int getEventAmount()
+		{
+			int total = 0;
+			for (int i = 0; i < this.transitionAmounts.length(); i++)
+			{
+				total += this.transitionAmounts.get(i);
+			}
+			return total;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package exodus_test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import exodus_world.ParallelAreaSimulator;
+import genesis_event.Actor;
+import genesis_event.ActorHandler;
+import genesis_event.HandlerRelay;
+import genesis_util.SimpleHandled;
+
+/**
+ * This class measures how the area simulation throughput changes as more cores are used. 
+ * Each area has its own actorHandler with a number of busy actors.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class ParallelAreaSimulationBenchmark
+{
+	// ATTRIBUTES	--------------------------
+	
+	private static final int AREA_AMOUNT = 48;
+	private static final int ACTORS_PER_AREA = 200;
+	private static final int WARMUP_STEPS = 200;
+	private static final int MEASURED_STEPS = 1000;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private ParallelAreaSimulationBenchmark()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// MAIN METHOD	-------------------------
+	
+	/**
+	 * Starts the benchmark
+	 * @param args not used
+	 */
+	public static void main(String[] args)
+	{
+		List<ActorHandler> areas = new ArrayList<>();
+		for (int i = 0; i < AREA_AMOUNT; i++)
+		{
+			HandlerRelay relay = new HandlerRelay();
+			ActorHandler handler = new ActorHandler(false, null);
+			relay.addHandler(handler);
+			
+			for (int j = 0; j < ACTORS_PER_AREA; j++)
+			{
+				new BusyActor(relay);
+			}
+			
+			areas.add(handler);
+		}
+		
+		System.out.println("Areas: " + AREA_AMOUNT + ", actors per area: " + ACTORS_PER_AREA);
+		
+		// Serial simulation is the baseline
+		double serialRate = measure(areas, null);
+		System.out.println("serial: " + Math.round(serialRate) + " steps/s");
+		
+		int maxCores = Runtime.getRuntime().availableProcessors();
+		int cores = 1;
+		while (cores <= maxCores)
+		{
+			ForkJoinPool pool = new ForkJoinPool(cores);
+			double rate = measure(areas, pool);
+			pool.shutdown();
+			
+			System.out.println(cores + " cores: " + Math.round(rate) + " steps/s (x" + 
+					Math.round(rate / serialRate * 100) / 100.0 + ")");
+			
+			// The largest amount of cores is always tested
+			if (cores < maxCores && cores * 2 > maxCores)
+				cores = maxCores;
+			else
+				cores *= 2;
+		}
+	}
+	
+	
+	// OTHER METHODS	---------------------
+	
+	private static double measure(List<ActorHandler> areas, ForkJoinPool pool)
+	{
+		for (int i = 0; i < WARMUP_STEPS; i++)
+		{
+			ParallelAreaSimulator.actInParallel(areas, 1, pool);
+		}
+		
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_STEPS; i++)
+		{
+			ParallelAreaSimulator.actInParallel(areas, 1, pool);
+		}
+		
+		return MEASURED_STEPS / ((System.nanoTime() - start) / 1000000000.0);
+	}
+	
+	
+	// SUBCLASSES	------------------------
+	
+	private static class BusyActor extends SimpleHandled implements Actor
+	{
+		// ATTRIBUTES	----------------------
+		
+		private double value = Math.random();
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public BusyActor(HandlerRelay handlers)
+		{
+			super(handlers);
+			
+			handlers.addHandled(this);
+		}
+		
+		
+		// IMPLEMENTED METHODS	--------------
+		
+		@Override
+		public void act(double duration)
+		{
+			// Simulates some work that only affects this object
+			for (int i = 0; i < 50; i++)
+			{
+				this.value = Math.sin(this.value + duration) * 0.5 + 0.5;
+			}
+		}
+	}
+}
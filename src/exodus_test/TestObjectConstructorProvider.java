@@ -1,8 +1,10 @@
 package exodus_test;
 
 import exodus_world.Area;
-import exodus_world.AreaObjectConstructorProvider;
+import exodus_world.AreaObjectConstructor;
+import exodus_world.DetachedObjectConstructorProvider;
 import flow_recording.AbstractConstructor;
+import genesis_event.HandlerRelay;
 
 /**
  * This class provides the area creation system with an object constructor
@@ -11,31 +13,39 @@ import flow_recording.AbstractConstructor;
  * @since 3.12.2014
  */
 public class TestObjectConstructorProvider implements
-		AreaObjectConstructorProvider<ConstructableTestObject>
+		DetachedObjectConstructorProvider<ConstructableTestObject>
 {
 	// IMPLEMENTED METHODS	---------------------------
 	
 	@Override
 	public AbstractConstructor<ConstructableTestObject> getConstructor(Area targetArea)
 	{
-		return new TestObjectConstructor(targetArea);
+		return new TestObjectConstructor(targetArea.getHandlers());
+	}
+	
+	@Override
+	public AbstractConstructor<ConstructableTestObject> getDetachedConstructor( 
+			Area targetArea, HandlerRelay stagingHandlers)
+	{
+		return new TestObjectConstructor(stagingHandlers);
 	}
 	
 	
 	// SUBCLASSES	------------------------------
 	
-	private static class TestObjectConstructor extends AbstractConstructor<ConstructableTestObject>
+	private static class TestObjectConstructor extends 
+			AreaObjectConstructor<ConstructableTestObject>
 	{
 		// ATTRIBUTES	--------------------------
 		
-		private Area targetArea;
+		private HandlerRelay targetHandlers;
 		
 		
 		// CONSTRUCTOR	--------------------------
 		
-		public TestObjectConstructor(Area targetArea)
+		public TestObjectConstructor(HandlerRelay targetHandlers)
 		{
-			this.targetArea = targetArea;
+			this.targetHandlers = targetHandlers;
 		}
 		
 		
@@ -44,7 +54,7 @@ public class TestObjectConstructorProvider implements
 		@Override
 		protected ConstructableTestObject createConstructable(String instruction)
 		{
-			return new ConstructableTestObject(this.targetArea.getHandlers());
+			return new ConstructableTestObject(this.targetHandlers);
 		}	
 	}
 }
@@ -0,0 +1,208 @@
+package exodus_world;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import arc_resource.GamePhase;
+
+/**
+ * ActiveAreaRegistry keeps track of the areas that are currently active. The areas update
+ * the registry themselves whenever their state changes, so the queries don't need to go
+ * through the area banks. The returned collections are live, unmodifiable views and
+ * shouldn't be modified by ending or starting areas while they are being iterated.
+ *
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class ActiveAreaRegistry
+{
+	// ATTRIBUTES	--------------------------
+	
+	private static final AreaSet activeAreas = new AreaSet();
+	private static final Map<GamePhase, AreaSet> areasByPhase = new HashMap<>();
+	private static final Map<String, AreaSet> areasByBank = new HashMap<>();
+	private static volatile long version = 0;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private ActiveAreaRegistry()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * @return All the areas that are currently active
+	 */
+	public static Collection<Area> getActiveAreas()
+	{
+		return activeAreas.getView();
+	}
+	
+	/**
+	 * Finds the active areas that use the given gamePhase
+	 * @param phase The gamePhase used by the areas
+	 * @return The active areas that use the given gamePhase
+	 */
+	public static Collection<Area> getActiveAreas(GamePhase phase)
+	{
+		return getView(areasByPhase.get(phase));
+	}
+	
+	/**
+	 * Finds the active areas that are stored in the given area bank
+	 * @param areaBankName The name of the bank that contains the areas
+	 * @return The active areas in the given area bank
+	 */
+	public static Collection<Area> getActiveAreasInBank(String areaBankName)
+	{
+		return getView(areasByBank.get(areaBankName));
+	}
+	
+	/**
+	 * @param area An area
+	 * @return Is the area registered as active
+	 */
+	public static boolean isRegistered(Area area)
+	{
+		return activeAreas.contains(area);
+	}
+	
+	/**
+	 * @return A number that changes each time an area is registered or unregistered
+	 */
+	static long getVersion()
+	{
+		return version;
+	}
+	
+	/**
+	 * Registers an area as active. Areas call this themselves when they start.
+	 * @param area The area that became active
+	 * @param phase The gamePhase used by the area
+	 */
+	static void register(Area area, GamePhase phase)
+	{
+		if (!activeAreas.add(area))
+			return;
+		
+		version ++;
+		if (phase != null)
+			getOrCreateSet(areasByPhase, phase).add(area);
+		if (area.getAreaBankName() != null)
+			getOrCreateSet(areasByBank, area.getAreaBankName()).add(area);
+	}
+	
+	/**
+	 * Removes an area from the active areas. Areas call this themselves when they end.
+	 * @param area The area that was ended
+	 * @param phase The gamePhase used by the area
+	 */
+	static void unregister(Area area, GamePhase phase)
+	{
+		if (!activeAreas.remove(area))
+			return;
+		
+		version ++;
+		if (phase != null)
+			removeFromSet(areasByPhase, phase, area);
+		if (area.getAreaBankName() != null)
+			removeFromSet(areasByBank, area.getAreaBankName(), area);
+	}
+	
+	/**
+	 * Ends all active areas of a certain bank and removes them from the registry. This 
+	 * should be called when the bank is deactivated. Ending the areas releases their 
+	 * gamePhases so that the phases' resources can be deactivated. The metrics of the 
+	 * removed areas are unregistered as well.
+	 * @param areaBankName The name of the area bank
+	 */
+	static void unregisterBank(String areaBankName)
+	{
+		AreaSet bankAreas = areasByBank.get(areaBankName);
+		if (bankAreas == null)
+			return;
+		
+		// A copy is made since ending the areas modifies the registry
+		List<Area> areas = new ArrayList<>(bankAreas);
+		for (Area area : areas)
+		{
+			area.end();
+		}
+		
+		// The areas that couldn't be ended are still forgotten
+		bankAreas = areasByBank.remove(areaBankName);
+		if (bankAreas != null && !bankAreas.isEmpty())
+		{
+			version ++;
+			for (Area area : bankAreas)
+			{
+				activeAreas.remove(area);
+				for (AreaSet phaseAreas : areasByPhase.values())
+				{
+					phaseAreas.remove(area);
+				}
+			}
+		}
+		
+		for (Area area : areas)
+		{
+			area.getMetrics().unregister();
+		}
+	}
+	
+	private static Collection<Area> getView(AreaSet set)
+	{
+		if (set == null)
+			return Collections.emptySet();
+		return set.getView();
+	}
+	
+	private static <K> AreaSet getOrCreateSet(Map<K, AreaSet> sets, K key)
+	{
+		AreaSet set = sets.get(key);
+		if (set == null)
+		{
+			set = new AreaSet();
+			sets.put(key, set);
+		}
+		
+		return set;
+	}
+	
+	private static <K> void removeFromSet(Map<K, AreaSet> sets, K key, Area area)
+	{
+		AreaSet set = sets.get(key);
+		if (set != null)
+			set.remove(area);
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	private static class AreaSet extends LinkedHashSet<Area>
+	{
+		// ATTRIBUTES	----------------------
+		
+		private static final long serialVersionUID = -2213648025012795376L;
+		
+		private final Set<Area> view = Collections.unmodifiableSet(this);
+		
+		
+		// ACCESSORS	----------------------
+		
+		public Set<Area> getView()
+		{
+			return this.view;
+		}
+	}
+}
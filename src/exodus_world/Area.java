@@ -1,11 +1,13 @@
 package exodus_world;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import exodus_util.ExodusHandlerType;
 import arc_bank.GamePhaseBank;
 import arc_resource.GamePhase;
-import arc_resource.ResourceActivator;
 import genesis_event.Handled;
 import genesis_event.Handler;
 import genesis_event.HandlerRelay;
@@ -28,10 +30,17 @@ public class Area extends Handler<Handled> // TODO: Area shouldn't extend handle
 	// Object constructor file name needs to be 
 	// the constructor's property
 	private String name, gamePhaseBankName, gamePhaseName, objectConstructorFileName;
+	private String areaBankName;
+	private GamePhase phase;
+	private boolean holdsPhaseReference;
+	private List<AreaObjectCreator<?>> objectCreators;
 	private AreaListenerHandler listenerHandler;
 	private HandlerRelay handlers;
 	private StateOperator isActiveOperator; // Replace with enum state
 	private boolean willDeactivateOthers, newState; // TODO: Remove these (?)
+	private boolean informingListeners;
+	private final AreaMetrics metrics;
+	private volatile long stateVersion = 0;
 	// TODO: Add phase start default state. Add states in general
 	
 	
@@ -62,13 +71,17 @@ public class Area extends Handler<Handled> // TODO: Area shouldn't extend handle
 		this.isActiveOperator = new StateOperator(false, true);
 		this.listenerHandler = new AreaListenerHandler(false);
 		this.willDeactivateOthers = false;
+		this.holdsPhaseReference = false;
+		this.objectCreators = new ArrayList<>();
 		this.newState = getIsActiveStateOperator().getState();
+		this.metrics = new AreaMetrics(name);
 		
 		// Initializes handlers
 		this.handlers.addHandler(this);
 		this.handlers.addHandler(this.listenerHandler);
 		
 		getIsActiveStateOperator().getListenerHandler().add(this);
+		this.metrics.register();
 	}
 	
 	
@@ -107,7 +120,9 @@ public class Area extends Handler<Handled> // TODO: Area shouldn't extend handle
 		
 		if (source == getIsActiveStateOperator())
 		{
+			long startTime = System.nanoTime();
 			this.newState = newState;
+			this.stateVersion ++;
 			
 			// TODO: Only affect handlers. The object constructor should destroy 
 			// non-persistent creations on end state
@@ -123,15 +138,29 @@ public class Area extends Handler<Handled> // TODO: Area shouldn't extend handle
 					}
 				}
 				
-				ResourceActivator.startPhase(getPhase(), this.willDeactivateOthers);
+				ActiveAreaRegistry.register(this, getPhase());
+				acquirePhase(this.willDeactivateOthers);
 				this.willDeactivateOthers = false;
 			}
-			// May deactivate resources if the gamePhase is not used by any area
-			else if (!otherAreasSharePhase())
-				ResourceActivator.endPhase(getPhase());
+			else
+			{
+				ActiveAreaRegistry.unregister(this, getPhase());
+				// Deactivates resources if the gamePhase is not used by any other area
+				releasePhase();
+			}
 			
+			// The objects may become ready while the listeners are being informed, in which 
+			// case the listeners are informed about that afterwards
+			long dispatchStartTime = System.nanoTime();
+			this.informingListeners = true;
 			this.listenerHandler.onAreaStateChange(this, newState);
+			this.informingListeners = false;
+			this.metrics.recordListenerDispatch(System.nanoTime() - dispatchStartTime);
+			if (newState)
+				checkObjectsReady();
+			
 			handleObjects(false);
+			this.metrics.recordStateChange(newState, System.nanoTime() - startTime);
 		}
 		// TODO: Remove, no death needed for areas
 		// Kills the listenerHandler on death
@@ -139,6 +168,7 @@ public class Area extends Handler<Handled> // TODO: Area shouldn't extend handle
 		{
 			this.listenerHandler.removeAllHandleds();
 			this.listenerHandler.getIsDeadStateOperator().setState(true);
+			this.metrics.unregister();
 		}
 	}
 	
@@ -154,14 +184,40 @@ public class Area extends Handler<Handled> // TODO: Area shouldn't extend handle
 	}
 	
 	/**
-	 * @return The gamePhase that will be activated when this area starts
+	 * @return The gamePhase that will be activated when this area starts. The phase is 
+	 * only resolved once.
 	 */
 	public GamePhase getPhase() // TODO: Remove
 	{
-		if (this.gamePhaseBankName == null)
-			return GamePhaseBank.getGamePhase(this.gamePhaseName);
-		else
-			return GamePhaseBank.getGamePhase(this.gamePhaseBankName, this.gamePhaseName);
+		if (this.phase == null)
+		{
+			if (this.gamePhaseBankName == null)
+				this.phase = GamePhaseBank.getGamePhase(this.gamePhaseName);
+			else
+				this.phase = GamePhaseBank.getGamePhase(this.gamePhaseBankName, 
+						this.gamePhaseName);
+		}
+		
+		return this.phase;
+	}
+	
+	/**
+	 * @return The name of the AreaBank this area is stored in. Null if the area hasn't been 
+	 * placed into a bank.
+	 */
+	public String getAreaBankName()
+	{
+		return this.areaBankName;
+	}
+	
+	/**
+	 * Changes the name of the AreaBank this area is stored in. This should only be called by 
+	 * the area bank system before the area is used.
+	 * @param areaBankName The name of the AreaBank that contains this area
+	 */
+	void setAreaBankName(String areaBankName)
+	{
+		this.areaBankName = areaBankName;
 	}
 	
 	/**
@@ -180,6 +236,49 @@ public class Area extends Handler<Handled> // TODO: Area shouldn't extend handle
 		return this.listenerHandler;
 	}
 	
+	/**
+	 * @return The metrics that record how expensive this area is to use
+	 */
+	public AreaMetrics getMetrics()
+	{
+		return this.metrics;
+	}
+	
+	/**
+	 * @return A number that changes each time the area starts or ends. Used for finding 
+	 * the areas that have changed since the previous {@link WorldSnapshot}.
+	 */
+	long getStateVersion()
+	{
+		return this.stateVersion;
+	}
+	
+	/**
+	 * @return The objectCreators that create objects into this area
+	 */
+	public List<AreaObjectCreator<?>> getObjectCreators()
+	{
+		return Collections.unmodifiableList(this.objectCreators);
+	}
+	
+	/**
+	 * @return How large a portion of this area's objects has been created since the area 
+	 * started [0, 1]
+	 */
+	public double getObjectCreationProgress()
+	{
+		if (this.objectCreators.isEmpty())
+			return 1;
+		
+		double total = 0;
+		for (AreaObjectCreator<?> creator : this.objectCreators)
+		{
+			total += creator.getProgress();
+		}
+		
+		return total / this.objectCreators.size();
+	}
+	
 	/**
 	 * @return The name of the GamePhaseBank this area uses
 	 */
@@ -236,24 +335,99 @@ public class Area extends Handler<Handled> // TODO: Area shouldn't extend handle
 		getIsActiveStateOperator().setState(false);
 	}
 	
-	private List<Area> getOtherActiveAreas() // TODO: Doesn't belong here
+	/**
+	 * Starts constructing the objects of this area in advance so that the area can be started 
+	 * faster. The objects are constructed using the provided executor.
+	 * @param executor The executor that constructs the objects
+	 * @see AreaObjectCreator#warmUp(Executor)
+	 */
+	public void warmUpObjects(Executor executor)
+	{
+		for (AreaObjectCreator<?> creator : this.objectCreators)
+		{
+			creator.warmUp(executor);
+		}
+	}
+	
+	/**
+	 * Makes the objectCreators in this area keep their objects dormant when the area ends 
+	 * so that the area can be started again faster
+	 * @param retentionCache The cache that keeps the objects (null if the objects should 
+	 * always be killed when the area ends)
+	 * @see AreaObjectCreator#setRetentionCache(AreaRetentionCache)
+	 */
+	public void setRetentionCache(AreaRetentionCache retentionCache)
+	{
+		for (AreaObjectCreator<?> creator : this.objectCreators)
+		{
+			creator.setRetentionCache(retentionCache);
+		}
+	}
+	
+	/**
+	 * Adds a new objectCreator to this area. The objectCreators call this themselves.
+	 * @param creator The objectCreator that creates objects into this area
+	 */
+	void addObjectCreator(AreaObjectCreator<?> creator)
+	{
+		this.objectCreators.add(creator);
+	}
+	
+	/**
+	 * Checks whether all the objects in this area have been created. The listeners are 
+	 * informed once all the objects are ready. The objectCreators call this when they 
+	 * finish.
+	 */
+	void checkObjectsReady()
 	{
-		if (!getIsActiveStateOperator().getState())
-			return AreaBank.getActiveAreas();
+		if (this.informingListeners || !getIsActiveStateOperator().getState())
+			return;
 		
-		List<Area> activeAreas = AreaBank.getActiveAreas();
+		for (AreaObjectCreator<?> creator : this.objectCreators)
+		{
+			if (!creator.areObjectsReady())
+				return;
+		}
+		
+		long dispatchStartTime = System.nanoTime();
+		this.listenerHandler.onAreaObjectsReady(this);
+		this.metrics.recordListenerDispatch(System.nanoTime() - dispatchStartTime);
+	}
+	
+	private List<Area> getOtherActiveAreas() // TODO: Doesn't belong here
+	{
+		// A copy is made since ending the areas modifies the registry
+		List<Area> activeAreas = new ArrayList<>(ActiveAreaRegistry.getActiveAreas());
 		activeAreas.remove(this);
 		return activeAreas;
 	}
 	
-	private boolean otherAreasSharePhase() // TODO: Doesn't belong here
+	private void acquirePhase(boolean endOtherPhases)
 	{
-		for (Area area : getOtherActiveAreas())
+		long startTime = System.nanoTime();
+		if (this.holdsPhaseReference)
 		{
-			if (area.getPhase() == getPhase())
-				return true;
+			// The phase is only restarted if other phases need to be ended
+			if (!endOtherPhases)
+				return;
+			GamePhaseUsageTracker.endOtherPhases(getPhase());
 		}
+		else
+		{
+			this.holdsPhaseReference = true;
+			GamePhaseUsageTracker.acquire(getPhase(), endOtherPhases);
+		}
+		this.metrics.recordPhaseChange(true, System.nanoTime() - startTime);
+	}
+	
+	private void releasePhase()
+	{
+		if (!this.holdsPhaseReference)
+			return;
 		
-		return false;
+		long startTime = System.nanoTime();
+		this.holdsPhaseReference = false;
+		GamePhaseUsageTracker.release(getPhase());
+		this.metrics.recordPhaseChange(false, System.nanoTime() - startTime);
 	}
 }
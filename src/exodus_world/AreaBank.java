@@ -1,9 +1,21 @@
 package exodus_world;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import exodus_util.ExodusResourceType;
+import flow_recording.AbstractConstructor;
+import flow_recording.ObjectFormatException;
 import arc_bank.Bank;
 import arc_bank.BankBank;
 import arc_bank.BankBankInitializer;
@@ -19,6 +31,20 @@ import arc_bank.MultiMediaHolder;
 public class AreaBank
 {
 	// TODO: Replace with another area interface
+	// ATTRIBUTES	--------------------------
+	
+	// Compiled and parallel manifests are handled here instead of the MultiMediaHolder
+	private static CompiledAreaManifest compiledManifest = null;
+	private static Map<String, List<AreaDescriptor>> manifestDescriptors = null;
+	private static AreaParser directAreaParser = null;
+	private static ForkJoinPool initializationPool = null;
+	private static long manifestReadNanos = 0;
+	private static boolean lazyMaterialization = false;
+	private static final Map<String, Bank<Area>> directBanks = new HashMap<>();
+	private static final Map<String, LazyAreaBank> lazyBanks = new HashMap<>();
+	private static final Map<String, AreaBankLoadReport> loadReports = new HashMap<>();
+	
+	
 	// CONSTRUCTOR	--------------------------
 	
 	private AreaBank()
@@ -30,13 +56,25 @@ public class AreaBank
 	// OTHER METHODS	----------------------
 	
 	/**
-	 * Retrieves an areaBank from the currently active banks
+	 * Retrieves an areaBank from the currently active banks. If the areas are 
+	 * materialized lazily, the returned bank only contains the areas that have been 
+	 * materialized so far. Areas materialized later are added to the same bank, but 
+	 * released areas are only left out of the banks retrieved after the release.
 	 * @param bankName The name of the areaBank
 	 * @return An areaBank with the given name
+	 * @see #getAreaNames(String)
 	 */
 	@SuppressWarnings("unchecked")
 	public static Bank<Area> getAreaBank(String bankName)
 	{
+		LazyAreaBank lazyBank = lazyBanks.get(bankName);
+		if (lazyBank != null)
+			return lazyBank.getMaterializedBank();
+		
+		Bank<Area> directBank = directBanks.get(bankName);
+		if (directBank != null)
+			return directBank;
+		
 		return (Bank<Area>) MultiMediaHolder.getBank(ExodusResourceType.AREA, bankName);
 	}
 	
@@ -48,15 +86,70 @@ public class AreaBank
 	 */
 	public static Area getArea(String bankName, String areaName)
 	{
+		LazyAreaBank lazyBank = lazyBanks.get(bankName);
+		if (lazyBank != null)
+			return lazyBank.getArea(areaName);
+		
 		return getAreaBank(bankName).get(areaName);
 	}
 	
+	/**
+	 * Finds the names of all the areas in an active area bank, including the ones that 
+	 * haven't been materialized yet
+	 * @param bankName The name of the areaBank
+	 * @return The names of the areas in the bank
+	 */
+	public static List<String> getAreaNames(String bankName)
+	{
+		LazyAreaBank lazyBank = lazyBanks.get(bankName);
+		if (lazyBank != null)
+			return new ArrayList<>(lazyBank.descriptors.keySet());
+		
+		List<String> names = new ArrayList<>();
+		for (String areaName : getAreaBank(bankName).getContentNames())
+		{
+			names.add(areaName);
+		}
+		return names;
+	}
+	
+	/**
+	 * Releases the lazily materialized areas in a bank that are not currently active. The 
+	 * areas are materialized again the next time they are requested. Released areas 
+	 * shouldn't be used anymore, so they shouldn't be referenced in AreaGraphs, for 
+	 * example.
+	 * @param bankName The name of the areaBank
+	 * @return How many areas were released
+	 */
+	public static int releaseInactiveAreas(String bankName)
+	{
+		LazyAreaBank lazyBank = lazyBanks.get(bankName);
+		if (lazyBank == null)
+			return 0;
+		
+		return lazyBank.releaseInactiveAreas();
+	}
+	
 	/**
 	 * Activates an areaBank that has been initialized
 	 * @param areaBankName The name of the area bank that will be initialized
 	 */
 	public static void activateAreaBank(String areaBankName)
 	{
+		// Banks in compiled and parallel manifests are constructed here
+		if (isDirectBank(areaBankName))
+		{
+			if (lazyMaterialization)
+			{
+				if (!lazyBanks.containsKey(areaBankName))
+					lazyBanks.put(areaBankName, new LazyAreaBank(areaBankName, 
+							parseDescriptors(areaBankName)));
+			}
+			else if (!directBanks.containsKey(areaBankName))
+				directBanks.put(areaBankName, createDirectAreaBank(areaBankName));
+			return;
+		}
+		
 		MultiMediaHolder.activateBank(ExodusResourceType.AREA, areaBankName, false);
 	}
 	
@@ -66,7 +159,27 @@ public class AreaBank
 	 */
 	public static void deactivateAreaBank(String areaBankName)
 	{
-		MultiMediaHolder.deactivateBank(ExodusResourceType.AREA, areaBankName);
+		// The areas that are still active are ended first so that their gamePhases are 
+		// released. This also unregisters their metrics.
+		ActiveAreaRegistry.unregisterBank(areaBankName);
+		
+		LazyAreaBank lazyBank = lazyBanks.remove(areaBankName);
+		if (lazyBank != null)
+			lazyBank.releaseInactiveAreas();
+		else
+		{
+			// The areas are constructed again if the bank is reactivated, so the metrics of 
+			// the current areas are no longer needed
+			Bank<Area> directBank = directBanks.remove(areaBankName);
+			Bank<Area> bank = directBank == null ? getAreaBank(areaBankName) : directBank;
+			for (String areaName : bank.getContentNames())
+			{
+				bank.get(areaName).getMetrics().unregister();
+			}
+			
+			if (directBank == null)
+				MultiMediaHolder.deactivateBank(ExodusResourceType.AREA, areaBankName);
+		}
 	}
 	
 	/**
@@ -79,6 +192,7 @@ public class AreaBank
 	 * phaseBankName1#phaseName1#areaObjectFile are also possible)<br>
 	 * areaName2#phaseName2<br>
 	 * ...<br>
+	 * A manifest compiled with {@link AreaFileCompiler} can be used as well.
 	 * @param handlerConstructor The object that will construct the required handlers
 	 * @param objectConstructorProvider The object that will provide the created 
 	 * AreaObjectCreators with suitable object constructors
@@ -88,10 +202,76 @@ public class AreaBank
 			AreaHandlerConstructor handlerConstructor, 
 			AreaObjectConstructorProvider<?> objectConstructorProvider)
 	{
+		// Compiled manifests are read directly instead of through the bankBank
+		if (CompiledAreaFiles.isCompiled(fileName))
+		{
+			initializeDirectManifest(fileName, handlerConstructor, objectConstructorProvider, 
+					null);
+			return;
+		}
+		
+		compiledManifest = null;
+		manifestDescriptors = null;
+		lazyMaterialization = false;
 		MultiMediaHolder.initializeResourceDatabase(createAreaBankBank(fileName, 
 				handlerConstructor, objectConstructorProvider));
 	}
 	
+	/**
+	 * Initializes the area resources so that the areas are built in parallel when an area 
+	 * bank is activated. The manifest is parsed as it is read. The finished areas are 
+	 * placed into the bank in the same order as they appear in the manifest. The 
+	 * handlerConstructor and the objectConstructorProvider must be usable from multiple 
+	 * threads at once.
+	 * @param fileName The name of the file that contains construction information 
+	 * ("data/" automatically included). The file should be formatted as in 
+	 * {@link #initializeAreaResources(String, AreaHandlerConstructor, AreaObjectConstructorProvider)}
+	 * @param handlerConstructor The object that will construct the required handlers
+	 * @param objectConstructorProvider The object that will provide the created 
+	 * AreaObjectCreators with suitable object constructors
+	 * @param pool The pool that builds the areas
+	 * @see #getLoadReport(String)
+	 */
+	public static void initializeAreaResourcesInParallel(String fileName, 
+			AreaHandlerConstructor handlerConstructor, 
+			AreaObjectConstructorProvider<?> objectConstructorProvider, ForkJoinPool pool)
+	{
+		initializeDirectManifest(fileName, handlerConstructor, objectConstructorProvider, 
+				pool);
+	}
+	
+	/**
+	 * Initializes the area resources so that only lightweight descriptions of the areas 
+	 * are kept when an area bank is activated. Each area (along with its handlers) is built 
+	 * when it is first requested.
+	 * @param fileName The name of the file that contains construction information 
+	 * ("data/" automatically included). The file should be formatted as in 
+	 * {@link #initializeAreaResources(String, AreaHandlerConstructor, AreaObjectConstructorProvider)}
+	 * @param handlerConstructor The object that will construct the required handlers
+	 * @param objectConstructorProvider The object that will provide the created 
+	 * AreaObjectCreators with suitable object constructors
+	 * @see #getArea(String, String)
+	 * @see #releaseInactiveAreas(String)
+	 */
+	public static void initializeAreaResourcesLazily(String fileName, 
+			AreaHandlerConstructor handlerConstructor, 
+			AreaObjectConstructorProvider<?> objectConstructorProvider)
+	{
+		initializeDirectManifest(fileName, handlerConstructor, objectConstructorProvider, 
+				null);
+		lazyMaterialization = true;
+	}
+	
+	/**
+	 * @param bankName The name of an area bank
+	 * @return A report of how long it took to load the bank. Null if the bank hasn't been 
+	 * loaded from a compiled manifest or in parallel.
+	 */
+	public static AreaBankLoadReport getLoadReport(String bankName)
+	{
+		return loadReports.get(bankName);
+	}
+	
 	/**
 	 * Creates a new "AreaRelay relay" that handles different areaBanks.
 	 * @param fileName The name of the file that contains construction information 
@@ -112,29 +292,160 @@ public class AreaBank
 			AreaHandlerConstructor handlerConstructor, 
 			AreaObjectConstructorProvider<?> objectConstructorProvider)
 	{
-		return new BankBank<>(new BankBankInitializer<>(fileName, new AreaBankConstructor(), 
-				new AreaConstructor(handlerConstructor, objectConstructorProvider)), 
+		AreaConstructor areaConstructor = new AreaConstructor(handlerConstructor, 
+				objectConstructorProvider);
+		return new BankBank<>(new BankBankInitializer<>(fileName, 
+				new AreaBankConstructor(areaConstructor), areaConstructor), 
 				ExodusResourceType.AREA);
 	}
 	
 	/**
-	 * @return All the areas that are currently active / in use
+	 * @return All the areas that are currently active / in use. The returned list is a copy. 
+	 * Use {@link ActiveAreaRegistry} if a copy is not required.
+	 * @see ActiveAreaRegistry#getActiveAreas()
 	 */
 	public static List<Area> getActiveAreas()
 	{
-		List<Area> activeAreas = new ArrayList<>();
+		return new ArrayList<>(ActiveAreaRegistry.getActiveAreas());
+	}
+	
+	private static void initializeDirectManifest(String fileName, 
+			AreaHandlerConstructor handlerConstructor, 
+			AreaObjectConstructorProvider<?> objectConstructorProvider, ForkJoinPool pool)
+	{
+		compiledManifest = null;
+		manifestDescriptors = null;
+		lazyMaterialization = false;
+		
+		// Text manifests are parsed while they are read
+		long readStart = System.nanoTime();
+		try
+		{
+			if (CompiledAreaFiles.isCompiled(fileName))
+				compiledManifest = CompiledAreaFiles.readManifest(fileName);
+			else
+				manifestDescriptors = AreaDescriptor.readManifest(fileName);
+		}
+		catch (IOException | ObjectFormatException e)
+		{
+			throw new AbstractConstructor.ConstructorException( 
+					"Couldn't read the area manifest " + fileName);
+		}
+		manifestReadNanos = System.nanoTime() - readStart;
+		
+		directAreaParser = new AreaParser(handlerConstructor, objectConstructorProvider);
+		initializationPool = pool;
+	}
+	
+	private static boolean isDirectBank(String bankName)
+	{
+		if (compiledManifest != null)
+			return compiledManifest.containsBank(bankName);
+		return manifestDescriptors != null && manifestDescriptors.containsKey(bankName);
+	}
+	
+	private static Bank<Area> createDirectAreaBank(String bankName)
+	{
+		// Parses the area descriptions
+		long parseStart = System.nanoTime();
+		List<AreaDescriptor> descriptors = parseDescriptors(bankName);
+		
+		// Builds the areas
+		long buildStart = System.nanoTime();
+		List<BuildTask> tasks = new ArrayList<>();
+		for (List<AreaDescriptor> part : split(descriptors))
+		{
+			tasks.add(new BuildTask(part, bankName));
+		}
+		List<Area> areas = invokeInOrder(tasks);
+		
+		// Places the areas to the bank in manifest order
+		long publishStart = System.nanoTime();
+		Bank<Area> bank = new Bank<>();
+		for (Area area : areas)
+		{
+			bank.put(area.getName(), area);
+		}
+		long publishEnd = System.nanoTime();
+		
+		loadReports.put(bankName, new AreaBankLoadReport(bankName, areas.size(), 
+				manifestReadNanos, buildStart - parseStart, publishStart - buildStart, 
+				publishEnd - publishStart));
+		return bank;
+	}
+	
+	private static List<AreaDescriptor> parseDescriptors(String bankName)
+	{
+		if (compiledManifest != null)
+			return compiledManifest.getAreas(bankName);
+		return manifestDescriptors.get(bankName);
+	}
+	
+	private static <T> List<List<T>> split(List<T> list)
+	{
+		List<List<T>> parts = new ArrayList<>();
+		if (list == null || list.isEmpty())
+			return parts;
 		
-		for (String areaBankName : MultiMediaHolder.getActiveBankNames(ExodusResourceType.AREA))
+		// Without a pool the work is done in a single part
+		int partAmount = 1;
+		if (initializationPool != null)
+			partAmount = Math.min(list.size(), initializationPool.getParallelism() * 4);
+		
+		int partSize = (list.size() + partAmount - 1) / partAmount;
+		for (int start = 0; start < list.size(); start += partSize)
 		{
-			for (String areaName : getAreaBank(areaBankName).getContentNames())
+			parts.add(list.subList(start, Math.min(list.size(), start + partSize)));
+		}
+		
+		return parts;
+	}
+	
+	private static <T> List<T> invokeInOrder(List<? extends Callable<List<T>>> tasks)
+	{
+		List<T> results = new ArrayList<>();
+		try
+		{
+			if (initializationPool == null)
+			{
+				for (Callable<List<T>> task : tasks)
+				{
+					results.addAll(task.call());
+				}
+			}
+			else
 			{
-				Area area = getArea(areaBankName, areaName);
-				if (area.getIsActiveStateOperator().getState())
-					activeAreas.add(area);
+				// The results are collected in the same order as the tasks
+				for (Future<List<T>> future : initializationPool.invokeAll(tasks))
+				{
+					results.addAll(future.get());
+				}
 			}
 		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new AbstractConstructor.ConstructorException( 
+					"Couldn't construct the areas: " + e.getCause().getMessage());
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new AbstractConstructor.ConstructorException( 
+					"Area construction was interrupted");
+		}
+		catch (RuntimeException e)
+		{
+			throw e;
+		}
+		catch (Exception e)
+		{
+			throw new AbstractConstructor.ConstructorException( 
+					"Couldn't construct the areas: " + e.getMessage());
+		}
 		
-		return activeAreas;
+		return results;
 	}
 	
 	
@@ -144,8 +455,8 @@ public class AreaBank
 	{
 		// ATTRIBUTES	----------------------
 		
-		private AreaHandlerConstructor handlerConstructor;
-		private AreaObjectConstructorProvider<?> objectConstructorProvider;
+		private AreaParser parser;
+		private Map<Bank<Area>, String> bankNames = new IdentityHashMap<>();
 		
 		
 		// CONSTRUCTOR	----------------------
@@ -153,8 +464,16 @@ public class AreaBank
 		public AreaConstructor(AreaHandlerConstructor handlerConstructor, 
 				AreaObjectConstructorProvider<?> objectConstructorProvider)
 		{
-			this.handlerConstructor = handlerConstructor;
-			this.objectConstructorProvider = objectConstructorProvider;
+			// The same parser is used for all the lines
+			this.parser = new AreaParser(handlerConstructor, objectConstructorProvider);
+		}
+		
+		
+		// OTHER METHODS	-------------------
+		
+		public void registerBank(Bank<Area> bank, String bankName)
+		{
+			this.bankNames.put(bank, bankName);
 		}
 		
 		
@@ -164,20 +483,153 @@ public class AreaBank
 		public Area construct(String line, Bank<Area> bank)
 		{
 			// Uses an areaParser to construct the area (and the objectCreator)
-			Area newArea = new AreaParser(this.handlerConstructor, 
-					this.objectConstructorProvider).parseFromString(line);
+			Area newArea = this.parser.parseFromString(line);
+			newArea.setAreaBankName(this.bankNames.get(bank));
 			bank.put(newArea.getName(), newArea);
 			return newArea;
 		}
 	}
 	
+	private static class LazyAreaBank
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final String bankName;
+		private final Map<String, AreaDescriptor> descriptors = new LinkedHashMap<>();
+		private final Map<String, Area> materializedAreas = new LinkedHashMap<>();
+		// Created when first requested and recreated after areas have been released
+		private Bank<Area> materializedBank = null;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public LazyAreaBank(String bankName, List<AreaDescriptor> descriptors)
+		{
+			this.bankName = bankName;
+			for (AreaDescriptor descriptor : descriptors)
+			{
+				this.descriptors.put(descriptor.getName(), descriptor);
+			}
+		}
+		
+		
+		// OTHER METHODS	-------------------
+		
+		public Bank<Area> getMaterializedBank()
+		{
+			if (this.materializedBank == null)
+			{
+				Bank<Area> bank = new Bank<>();
+				for (Area area : this.materializedAreas.values())
+				{
+					bank.put(area.getName(), area);
+				}
+				this.materializedBank = bank;
+			}
+			
+			return this.materializedBank;
+		}
+		
+		public Area getArea(String areaName)
+		{
+			Area area = this.materializedAreas.get(areaName);
+			if (area == null)
+			{
+				AreaDescriptor descriptor = this.descriptors.get(areaName);
+				if (descriptor == null)
+					return null;
+				
+				area = directAreaParser.parseFromDescriptor(descriptor);
+				area.setAreaBankName(this.bankName);
+				this.materializedAreas.put(areaName, area);
+				if (this.materializedBank != null)
+					this.materializedBank.put(areaName, area);
+			}
+			
+			return area;
+		}
+		
+		public int releaseInactiveAreas()
+		{
+			int released = 0;
+			Iterator<Area> iterator = this.materializedAreas.values().iterator();
+			while (iterator.hasNext())
+			{
+				Area area = iterator.next();
+				if (!area.getIsActiveStateOperator().getState())
+				{
+					iterator.remove();
+					area.getIsDeadStateOperator().setState(true);
+					area.getMetrics().unregister();
+					released ++;
+				}
+			}
+			
+			// Areas can't be removed from a bank, so a new one is created when needed
+			if (released > 0)
+				this.materializedBank = null;
+			return released;
+		}
+	}
+	
+	private static class BuildTask implements Callable<List<Area>>
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final List<AreaDescriptor> descriptors;
+		private final String bankName;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public BuildTask(List<AreaDescriptor> descriptors, String bankName)
+		{
+			this.descriptors = descriptors;
+			this.bankName = bankName;
+		}
+		
+		
+		// IMPLEMENTED METHODS	---------------
+		
+		@Override
+		public List<Area> call()
+		{
+			List<Area> areas = new ArrayList<>(this.descriptors.size());
+			for (AreaDescriptor descriptor : this.descriptors)
+			{
+				Area area = directAreaParser.parseFromDescriptor(descriptor);
+				area.setAreaBankName(this.bankName);
+				areas.add(area);
+			}
+			
+			return areas;
+		}
+	}
+	
 	private static class AreaBankConstructor implements BankObjectConstructor<Bank<Area>>
 	{
+		// ATTRIBUTES	----------------------
+		
+		private AreaConstructor areaConstructor;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public AreaBankConstructor(AreaConstructor areaConstructor)
+		{
+			this.areaConstructor = areaConstructor;
+		}
+		
+		
+		// IMPLEMENTED METHODS	---------------
+		
 		@Override
 		public Bank<Area> construct(String line, Bank<Bank<Area>> bank)
 		{
 			Bank<Area> newBank = new Bank<>();
 			bank.put(line, newBank);
+			// The areas need to know which bank they belong to
+			this.areaConstructor.registerBank(newBank, line);
 			return newBank;
 		}	
 	}
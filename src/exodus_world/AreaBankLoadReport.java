@@ -0,0 +1,115 @@
+package exodus_world;
+
+/**
+ * AreaBankLoadReports tell how long it took to load an area bank and how the time was 
+ * divided between the different stages of the loading process.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see AreaBank#getLoadReport(String)
+ */
+public class AreaBankLoadReport
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final String bankName;
+	private final int areaAmount;
+	private final long manifestReadNanos, parseNanos, buildNanos, publishNanos;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new report
+	 * @param bankName The name of the area bank that was loaded
+	 * @param areaAmount How many areas were loaded
+	 * @param manifestReadNanos How many nanoseconds it took to read the area manifest
+	 * @param parseNanos How many nanoseconds it took to parse the area descriptions
+	 * @param buildNanos How many nanoseconds it took to build the areas and their handlers
+	 * @param publishNanos How many nanoseconds it took to place the areas into the bank
+	 */
+	public AreaBankLoadReport(String bankName, int areaAmount, long manifestReadNanos, 
+			long parseNanos, long buildNanos, long publishNanos)
+	{
+		this.bankName = bankName;
+		this.areaAmount = areaAmount;
+		this.manifestReadNanos = manifestReadNanos;
+		this.parseNanos = parseNanos;
+		this.buildNanos = buildNanos;
+		this.publishNanos = publishNanos;
+	}
+	
+	
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	public String toString()
+	{
+		return this.bankName + ": " + this.areaAmount + " areas, manifest read " + 
+				getManifestReadMillis() + " ms, parse " + getParseMillis() + " ms, build " + 
+				getBuildMillis() + " ms, publish " + getPublishMillis() + " ms";
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return The name of the area bank that was loaded
+	 */
+	public String getBankName()
+	{
+		return this.bankName;
+	}
+	
+	/**
+	 * @return How many areas were loaded
+	 */
+	public int getAreaAmount()
+	{
+		return this.areaAmount;
+	}
+	
+	/**
+	 * @return How many milliseconds it took to read the area manifest. The manifest is 
+	 * shared between all the banks.
+	 */
+	public double getManifestReadMillis()
+	{
+		return this.manifestReadNanos / 1000000.0;
+	}
+	
+	/**
+	 * @return How many milliseconds it took to parse the area descriptions. Text manifests 
+	 * are parsed while they are read, so for them this is included in the manifest read 
+	 * time.
+	 */
+	public double getParseMillis()
+	{
+		return this.parseNanos / 1000000.0;
+	}
+	
+	/**
+	 * @return How many milliseconds it took to build the areas and their handlers
+	 */
+	public double getBuildMillis()
+	{
+		return this.buildNanos / 1000000.0;
+	}
+	
+	/**
+	 * @return How many milliseconds it took to place the areas into the bank
+	 */
+	public double getPublishMillis()
+	{
+		return this.publishNanos / 1000000.0;
+	}
+	
+	/**
+	 * @return How many milliseconds it took to load the bank in total (not including the 
+	 * manifest reading)
+	 */
+	public double getTotalMillis()
+	{
+		return getParseMillis() + getBuildMillis() + getPublishMillis();
+	}
+}
@@ -0,0 +1,197 @@
+package exodus_world;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import flow_recording.ObjectFormatException;
+
+/**
+ * AreaDescriptors contain the information needed for constructing an area. The 
+ * descriptors are lightweight and immutable.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class AreaDescriptor
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final String name, gamePhaseBankName, gamePhaseName, objectConstructorFileName;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new descriptor
+	 * @param name The name of the area
+	 * @param gamePhaseBankName The name of the GamePhaseBank that contains the area's 
+	 * gamePhase (optional)
+	 * @param gamePhaseName The name of the area's gamePhase
+	 * @param objectConstructorFileName The name of the file that contains the area's 
+	 * objects (optional)
+	 */
+	public AreaDescriptor(String name, String gamePhaseBankName, String gamePhaseName, 
+			String objectConstructorFileName)
+	{
+		this.name = name;
+		this.gamePhaseBankName = gamePhaseBankName;
+		this.gamePhaseName = gamePhaseName;
+		this.objectConstructorFileName = objectConstructorFileName;
+	}
+	
+	
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	public String toString()
+	{
+		StringBuilder s = new StringBuilder(getName());
+		
+		if (getGamePhaseBankName() != null)
+			s.append('#').append(getGamePhaseBankName());
+		s.append('#').append(getGamePhaseName());
+		if (getObjectConstructorFileName() != null)
+			s.append('#').append(getObjectConstructorFileName());
+		
+		return s.toString();
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return The name of the area
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+	
+	/**
+	 * @return The name of the GamePhaseBank that contains the area's gamePhase. Null if the 
+	 * default bank should be used.
+	 */
+	public String getGamePhaseBankName()
+	{
+		return this.gamePhaseBankName;
+	}
+	
+	/**
+	 * @return The name of the area's gamePhase
+	 */
+	public String getGamePhaseName()
+	{
+		return this.gamePhaseName;
+	}
+	
+	/**
+	 * @return The name of the file that contains the area's objects. Null if the area 
+	 * doesn't have an object file.
+	 */
+	public String getObjectConstructorFileName()
+	{
+		return this.objectConstructorFileName;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Parses a descriptor from an area manifest line. The line should be formatted as 
+	 * follows:<br>
+	 * areaName#phaseName<br>
+	 * OR areaName#phaseBankName#phaseName<br>
+	 * OR areaName#phaseBankName#phaseName#objectConstructorFileName<br>
+	 * Trailing empty fields are ignored, so "areaName#phaseName#" describes the same area 
+	 * as "areaName#phaseName".
+	 * @param line The line that describes the area
+	 * @return A descriptor parsed from the line
+	 * @throws ObjectFormatException If the line couldn't be parsed
+	 */
+	public static AreaDescriptor parse(String line) throws ObjectFormatException
+	{
+		// The fields are separated without a regular expression. Like in String.split(...), 
+		// the trailing empty fields are dropped.
+		int lineEnd = line.length();
+		while (lineEnd > 0 && line.charAt(lineEnd - 1) == '#')
+		{
+			lineEnd --;
+		}
+		
+		String[] arguments = new String[4];
+		int argumentAmount = 0;
+		int start = 0;
+		while (argumentAmount < arguments.length)
+		{
+			int end = line.indexOf('#', start);
+			if (end < 0 || end >= lineEnd)
+			{
+				arguments[argumentAmount ++] = line.substring(start, lineEnd);
+				break;
+			}
+		
+			arguments[argumentAmount ++] = line.substring(start, end);
+			start = end + 1;
+		}
+		
+		if (argumentAmount < 2)
+			throw new ObjectFormatException("Can't construct an area from string: " 
+					+ line + ". The string has too few arguments.");
+		
+		if (argumentAmount == 2)
+			return new AreaDescriptor(arguments[0], null, arguments[1], null);
+		if (argumentAmount == 3)
+			return new AreaDescriptor(arguments[0], arguments[1], arguments[2], null);
+		return new AreaDescriptor(arguments[0], arguments[1], arguments[2], arguments[3]);
+	}
+	
+	/**
+	 * Reads the area descriptors of a text area manifest. The manifest is read with an 
+	 * {@link AreaManifestReader}, so no strings are kept for the lines.
+	 * @param fileName The name of the manifest file ("data/" automatically included)
+	 * @return The area descriptors of each area bank, in manifest order
+	 * @throws IOException If the file couldn't be read
+	 * @throws ObjectFormatException If the manifest was malformed
+	 */
+	static Map<String, List<AreaDescriptor>> readManifest(String fileName) 
+			throws IOException, ObjectFormatException
+	{
+		Map<String, List<AreaDescriptor>> banks = new LinkedHashMap<>();
+		String currentBankName = null;
+		List<AreaDescriptor> currentBank = null;
+		
+		try (AreaManifestReader reader = AreaManifestReader.open(fileName))
+		{
+			AreaDescriptor descriptor = reader.next();
+			while (descriptor != null)
+			{
+				// Bank names are only checked when they change
+				if (reader.getBankName() != currentBankName)
+				{
+					currentBankName = reader.getBankName();
+					currentBank = banks.get(currentBankName);
+					if (currentBank == null)
+					{
+						currentBank = new ArrayList<>();
+						banks.put(currentBankName, currentBank);
+					}
+				}
+				
+				currentBank.add(descriptor);
+				descriptor = reader.next();
+			}
+			
+			// Banks without any areas are included as well
+			for (String bankName : reader.getBankNames())
+			{
+				if (!banks.containsKey(bankName))
+					banks.put(bankName, new ArrayList<AreaDescriptor>());
+			}
+		}
+		
+		return banks;
+	}
+}
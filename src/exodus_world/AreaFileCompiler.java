@@ -0,0 +1,182 @@
+package exodus_world;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import flow_recording.ObjectFormatException;
+
+/**
+ * AreaFileCompiler converts area manifests and area object files into the compiled format 
+ * used by {@link CompiledAreaFiles}. Compiled files can be used in place of the text files 
+ * and they are considerably faster to load. The compiler can be used as a build step:<br>
+ * AreaFileCompiler manifest|objects|all sourceFile targetFile [-compress]<br>
+ * All file names are relative to the "data/" directory.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class AreaFileCompiler
+{
+	// ATTRIBUTES	--------------------------
+	
+	/**
+	 * The suffix added to the names of the object files compiled in 
+	 * {@link #compileAll(String, String, boolean)}
+	 */
+	public static final String COMPILED_SUFFIX = ".bin";
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private AreaFileCompiler()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// MAIN METHOD	--------------------------
+	
+	/**
+	 * Compiles a file
+	 * @param args manifest|objects|all sourceFile targetFile [-compress]
+	 */
+	public static void main(String[] args)
+	{
+		if (args.length < 3)
+		{
+			System.err.println("Usage: AreaFileCompiler manifest|objects|all sourceFile " + 
+					"targetFile [-compress]");
+			return;
+		}
+		
+		boolean compress = args.length > 3 && args[3].equalsIgnoreCase("-compress");
+		try
+		{
+			if (args[0].equalsIgnoreCase("manifest"))
+				compileManifest(args[1], args[2], compress);
+			else if (args[0].equalsIgnoreCase("objects"))
+				compileObjectFile(args[1], args[2], compress);
+			else if (args[0].equalsIgnoreCase("all"))
+				compileAll(args[1], args[2], compress);
+			else
+				System.err.println("Unknown file type " + args[0]);
+		}
+		catch (IOException | ObjectFormatException e)
+		{
+			System.err.println("Compilation failed");
+			e.printStackTrace();
+		}
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Compiles an area manifest. The object files referred to in the manifest are not 
+	 * compiled.
+	 * @param sourceFileName The name of the text manifest ("data/" automatically included)
+	 * @param targetFileName The name of the compiled manifest ("data/" automatically 
+	 * included)
+	 * @param compress Should the compiled file be compressed
+	 * @throws IOException If the files couldn't be read or written
+	 * @throws ObjectFormatException If the manifest contains malformed lines
+	 */
+	public static void compileManifest(String sourceFileName, String targetFileName, 
+			boolean compress) throws IOException, ObjectFormatException
+	{
+		CompiledAreaFiles.writeManifest(readManifest(sourceFileName), targetFileName, 
+				compress);
+	}
+	
+	/**
+	 * Compiles an area object file
+	 * @param sourceFileName The name of the text object file ("data/" automatically 
+	 * included)
+	 * @param targetFileName The name of the compiled file ("data/" automatically included)
+	 * @param compress Should the compiled file be compressed
+	 * @throws IOException If the files couldn't be read or written
+	 * @throws ObjectFormatException If an object has too many attributes or links
+	 */
+	public static void compileObjectFile(String sourceFileName, String targetFileName, 
+			boolean compress) throws IOException, ObjectFormatException
+	{
+		CompiledAreaFiles.writeBlueprint(AreaObjectBlueprint.readFromFile(sourceFileName), 
+				targetFileName, compress);
+	}
+	
+	/**
+	 * Compiles an area manifest as well as all the object files it refers to. The compiled 
+	 * object files are named by adding {@link #COMPILED_SUFFIX} to the original file names 
+	 * and the compiled manifest refers to the compiled object files.
+	 * @param sourceFileName The name of the text manifest ("data/" automatically included)
+	 * @param targetFileName The name of the compiled manifest ("data/" automatically 
+	 * included)
+	 * @param compress Should the compiled files be compressed
+	 * @throws IOException If the files couldn't be read or written
+	 * @throws ObjectFormatException If the manifest contains malformed lines
+	 */
+	public static void compileAll(String sourceFileName, String targetFileName, 
+			boolean compress) throws IOException, ObjectFormatException
+	{
+		Map<String, List<AreaDescriptor>> banks = readManifest(sourceFileName);
+		Map<String, String> compiledFiles = new LinkedHashMap<>();
+		
+		for (List<AreaDescriptor> areas : banks.values())
+		{
+			for (int i = 0; i < areas.size(); i++)
+			{
+				AreaDescriptor area = areas.get(i);
+				String objectFileName = area.getObjectConstructorFileName();
+				if (objectFileName == null)
+					continue;
+				
+				// Each object file is only compiled once, even if it's shared
+				String compiledFileName = compiledFiles.get(objectFileName);
+				if (compiledFileName == null)
+				{
+					compiledFileName = objectFileName + COMPILED_SUFFIX;
+					compileObjectFile(objectFileName, compiledFileName, compress);
+					compiledFiles.put(objectFileName, compiledFileName);
+				}
+				
+				areas.set(i, new AreaDescriptor(area.getName(), area.getGamePhaseBankName(), 
+						area.getGamePhaseName(), compiledFileName));
+			}
+		}
+		
+		CompiledAreaFiles.writeManifest(banks, targetFileName, compress);
+	}
+	
+	private static Map<String, List<AreaDescriptor>> readManifest(String fileName) 
+			throws IOException, ObjectFormatException
+	{
+		Map<String, List<AreaDescriptor>> banks = new LinkedHashMap<>();
+		try (AreaManifestReader reader = AreaManifestReader.open(fileName))
+		{
+			String bankName = null;
+			List<AreaDescriptor> areas = null;
+			AreaDescriptor area = reader.next();
+			while (area != null)
+			{
+				if (!reader.getBankName().equals(bankName))
+				{
+					bankName = reader.getBankName();
+					areas = banks.get(bankName);
+					if (areas == null)
+					{
+						areas = new ArrayList<>();
+						banks.put(bankName, areas);
+					}
+				}
+				areas.add(area);
+				
+				area = reader.next();
+			}
+		}
+		
+		return banks;
+	}
+}
@@ -1,8 +1,22 @@
 package exodus_world;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
+import arc_resource.GamePhase;
 import flow_structure.Graph;
 import flow_structure.GraphEdge;
 import flow_structure.GraphNode;
@@ -21,8 +35,27 @@ public class AreaGraph<T> extends Graph<Area, T>
 	
 	// ATTRIBUTES	------------------------
 	
+	// Only the routes of the most recently used cost functions are kept
+	private static final int MAX_CACHED_COST_FUNCTIONS = 4;
+	// Each routing table covers the whole graph, so only the most recently used start areas 
+	// have one
+	private static final int MAX_CACHED_ROUTING_TABLES = 32;
+	
 	private String areaBankName;
 	private GraphNode<Area, T> currentNode;
+	private Map<GraphNode<Area, T>, RouteIndex> routeIndices = new HashMap<>();
+	private Map<String, GraphNode<Area, T>> nodesByName = new LinkedHashMap<>();
+	private LinkedHashMap<GraphNode<Area, T>, Map<GraphNode<Area, T>, GraphEdge<Area, T>>> 
+			routingTables = new LinkedHashMap<>(16, 0.75f, true);
+	private LinkedHashMap<AreaRouteCostFunction<T>, Map<GraphNode<Area, T>, 
+			Map<GraphNode<Area, T>, List<T>>>> cheapestRoutes = 
+			new LinkedHashMap<>(16, 0.75f, true);
+	
+	private int prefetchDepth = 0;
+	private Executor prefetchExecutor;
+	private AreaObjectBlueprintCache prefetchCache;
+	private Map<GraphNode<Area, T>, PhasePrefetch> prefetchedNodes = new HashMap<>();
+	private long prefetchHits = 0, prefetchMisses = 0;
 	
 	
 	// CONSTRUCTOR	-------------------------
@@ -39,7 +72,7 @@ public class AreaGraph<T> extends Graph<Area, T>
 		
 		if (insertAllAreas)
 		{
-			for (String areaName : AreaBank.getAreaBank(areaBankName).getContentNames())
+			for (String areaName : AreaBank.getAreaNames(areaBankName))
 			{
 				addArea(areaName);
 			}
@@ -65,6 +98,39 @@ public class AreaGraph<T> extends Graph<Area, T>
 		return this.areaBankName;
 	}
 	
+	/**
+	 * @return How many edges away from the current area the areas are prefetched. 0 if 
+	 * prefetching is disabled.
+	 */
+	public int getPrefetchDepth()
+	{
+		return this.prefetchDepth;
+	}
+	
+	/**
+	 * @return How many times the graph moved to an area that had been prefetched
+	 */
+	public long getPrefetchHitCount()
+	{
+		return this.prefetchHits;
+	}
+	
+	/**
+	 * @return How many times the graph moved to an area that hadn't been prefetched
+	 */
+	public long getPrefetchMissCount()
+	{
+		return this.prefetchMisses;
+	}
+	
+	/**
+	 * @return The areas that are currently prefetched
+	 */
+	public Set<GraphNode<Area, T>> getPrefetchedAreas()
+	{
+		return Collections.unmodifiableSet(this.prefetchedNodes.keySet());
+	}
+	
 	
 	// OTHER METHODS	---------------------
 	
@@ -75,7 +141,10 @@ public class AreaGraph<T> extends Graph<Area, T>
 	 */
 	public GraphNode<Area, T> addArea(String areaName)
 	{
-		return addNode(AreaBank.getArea(this.areaBankName, areaName));
+		GraphNode<Area, T> node = addNode(AreaBank.getArea(this.areaBankName, areaName));
+		this.nodesByName.put(areaName, node);
+		clearRoutingTables();
+		return node;
 	}
 	
 	/**
@@ -90,8 +159,117 @@ public class AreaGraph<T> extends Graph<Area, T>
 	public void connectAreas(String startAreaName, String endAreaName, T edgeData, 
 			boolean bothWays, boolean overWrite)
 	{
-		connectNodes(findArea(startAreaName).getID(), findArea(endAreaName).getID(), edgeData, 
-				bothWays, overWrite);
+		connectAreas(findArea(startAreaName), findArea(endAreaName), edgeData, bothWays, 
+				overWrite);
+	}
+	
+	/**
+	 * Finds the route with the least amount of steps between two areas
+	 * @param startAreaName The name of the area the route starts from
+	 * @param destinationAreaName The name of the area the route leads to
+	 * @return The routes that need to be moved along in order to reach the destination. 
+	 * Null if the destination can't be reached. The list can't be modified.
+	 * @see #moveAlong(Object)
+	 */
+	public List<T> findRoute(String startAreaName, String destinationAreaName)
+	{
+		return findRoute(findArea(startAreaName), findArea(destinationAreaName));
+	}
+	
+	/**
+	 * Finds the cheapest route between two areas. The routes are cached for the few most 
+	 * recently used cost functions, so the same function instance should be reused 
+	 * between searches.
+	 * @param startAreaName The name of the area the route starts from
+	 * @param destinationAreaName The name of the area the route leads to
+	 * @param costFunction The function that defines the cost of each route
+	 * @return The routes that need to be moved along in order to reach the destination. 
+	 * Null if the destination can't be reached. The list can't be modified.
+	 * @see #moveAlong(Object)
+	 */
+	public List<T> findRoute(String startAreaName, String destinationAreaName, 
+			AreaRouteCostFunction<T> costFunction)
+	{
+		return findRoute(findArea(startAreaName), findArea(destinationAreaName), 
+				costFunction);
+	}
+	
+	/**
+	 * Moves to a different area in the graph, provided that there is a route to it from the 
+	 * current area. Unlike when moving along the routes, the areas between are not 
+	 * activated.
+	 * @param areaName The name of the area that will be activated
+	 * @return Was the move successful
+	 */
+	public boolean travelTo(String areaName)
+	{
+		GraphNode<Area, T> destination = findArea(areaName);
+		if (findRoute(getCurrentArea(), destination) == null)
+			return false;
+		
+		return moveTo(destination);
+	}
+	
+	/**
+	 * Moves to a different area in the graph, provided that there is a route to it from the 
+	 * current area. Unlike when moving along the routes, the areas between are not 
+	 * activated.
+	 * @param areaName The name of the area that will be activated
+	 * @param costFunction The function that defines the cost of each route. Routes with 
+	 * infinite cost are considered impassable.
+	 * @return Was the move successful
+	 */
+	public boolean travelTo(String areaName, AreaRouteCostFunction<T> costFunction)
+	{
+		GraphNode<Area, T> destination = findArea(areaName);
+		if (findRoute(getCurrentArea(), destination, costFunction) == null)
+			return false;
+		
+		return moveTo(destination);
+	}
+	
+	/**
+	 * Clears the cached routes. The routes are cleared automatically when areas are added 
+	 * or connected, but this should be called if the costs of the routes change.
+	 */
+	public void clearRoutingTables()
+	{
+		this.routingTables.clear();
+		this.cheapestRoutes.clear();
+	}
+	
+	/**
+	 * Makes the graph prepare the areas near the current area in the background. Whenever 
+	 * the current area changes, the areas within the given amount of edges have their 
+	 * gamePhase resources activated, their object blueprints read and their objects warmed 
+	 * up. All of this is done by the executor, except for the gamePhases that are already 
+	 * in use. Areas that fall out of range are released.
+	 * @param depth How many edges away from the current area the areas are prefetched
+	 * @param executor The executor that prepares the areas
+	 * @param blueprintCache The cache the object blueprints are read into. The cache is 
+	 * given to the prefetched areas' objectCreators that don't have a cache (optional)
+	 * @see Area#warmUpObjects(Executor)
+	 */
+	public void enablePrefetch(int depth, Executor executor, 
+			AreaObjectBlueprintCache blueprintCache)
+	{
+		this.prefetchDepth = Math.max(0, depth);
+		this.prefetchExecutor = executor;
+		this.prefetchCache = blueprintCache;
+		
+		updatePrefetch();
+		warmUpPrefetched();
+	}
+	
+	/**
+	 * Stops prefetching areas and releases the areas that were prefetched
+	 */
+	public void disablePrefetch()
+	{
+		this.prefetchDepth = 0;
+		updatePrefetch();
+		this.prefetchExecutor = null;
+		this.prefetchCache = null;
 	}
 	
 	/**
@@ -101,7 +279,17 @@ public class AreaGraph<T> extends Graph<Area, T>
 	 */
 	public GraphNode<Area, T> findArea(String areaName)
 	{
-		return findNodeWithData(AreaBank.getArea(this.areaBankName, areaName));
+		GraphNode<Area, T> node = this.nodesByName.get(areaName);
+		
+		// Nodes that weren't added through addArea are searched the slow way
+		if (node == null)
+		{
+			node = findNodeWithData(AreaBank.getArea(this.areaBankName, areaName));
+			if (node != null)
+				this.nodesByName.put(areaName, node);
+		}
+		
+		return node;
 	}
 	
 	/**
@@ -115,21 +303,15 @@ public class AreaGraph<T> extends Graph<Area, T>
 	}
 	
 	/**
-	 * @return A list of "routes" from the current area to other connected areas
+	 * @return A list of "routes" from the current area to other connected areas. The list 
+	 * can't be modified.
 	 */
-	public ArrayList<T> getRoutesFromCurrentArea()
+	public List<T> getRoutesFromCurrentArea()
 	{
-		ArrayList<T> routes = new ArrayList<>();
-		
 		if (getCurrentArea() == null)
-			return routes;
-		
-		for (GraphEdge<Area, T> edge : getCurrentArea().getLeavingEdges())
-		{
-			routes.add(edge.getData());
-		}
+			return Collections.emptyList();
 		
-		return routes;
+		return getRouteIndex(getCurrentArea()).routes;
 	}
 	
 	/**
@@ -143,17 +325,109 @@ public class AreaGraph<T> extends Graph<Area, T>
 			return false;
 		
 		// Finds the edge that works as the route to the new area
-		List<GraphEdge<Area, T>> edges = getCurrentArea().getLeavingEdgesWithData(route);
+		GraphEdge<Area, T> edge = getRouteIndex(getCurrentArea()).edgesByRoute.get(route);
 		
-		if (edges.isEmpty())
+		if (edge == null)
 			return false;
 		
 		// Moves to the new area
-		GraphNode<Area, T> destination = edges.get(0).getEndNode();
-		if (destination == getCurrentArea())
-			destination = edges.get(0).getStartNode();
+		return moveTo(getOtherEnd(edge, getCurrentArea()));
+	}
+	
+	/**
+	 * @return The nodes that can be found by their area's name, in the order they were 
+	 * added
+	 */
+	Collection<GraphNode<Area, T>> getIndexedAreas()
+	{
+		return Collections.unmodifiableCollection(this.nodesByName.values());
+	}
+	
+	/**
+	 * Adds multiple areas to the graph at once. Areas that can already be found by their 
+	 * name are not added again. Areas that can't be found from the area bank are skipped. 
+	 * The routing tables are only cleared once.
+	 * @param areaNames The names of the areas
+	 * @return The nodes that represent the areas, in the same order as the names. Null in 
+	 * place of the areas that couldn't be found.
+	 */
+	List<GraphNode<Area, T>> addAreas(List<String> areaNames)
+	{
+		List<GraphNode<Area, T>> nodes = new ArrayList<>(areaNames.size());
+		for (String areaName : areaNames)
+		{
+			GraphNode<Area, T> node = this.nodesByName.get(areaName);
+			if (node == null)
+			{
+				// The area may have been removed from the bank after the graph was written
+				Area area = AreaBank.getArea(this.areaBankName, areaName);
+				if (area != null)
+				{
+					node = addNode(area);
+					this.nodesByName.put(areaName, node);
+				}
+			}
+			nodes.add(node);
+		}
 		
-		return moveTo(destination);
+		clearRoutingTables();
+		return nodes;
+	}
+	
+	/**
+	 * Creates multiple connecting edges at once. The nodes are not searched by name and the 
+	 * route indices are only invalidated once. Edges that would connect to a missing (null) 
+	 * node are skipped.
+	 * @param nodes The nodes that are connected
+	 * @param starts The indices of the nodes the edges leave from
+	 * @param ends The indices of the nodes the edges go to
+	 * @param bothWays Which edges are two way instead of one way
+	 * @param edgeData The data contained within each edge
+	 */
+	void connectAreas(List<GraphNode<Area, T>> nodes, int[] starts, int[] ends, 
+			boolean[] bothWays, List<T> edgeData)
+	{
+		for (int i = 0; i < starts.length; i++)
+		{
+			GraphNode<Area, T> start = nodes.get(starts[i]);
+			GraphNode<Area, T> end = nodes.get(ends[i]);
+			if (start != null && end != null)
+				connectNodes(start.getID(), end.getID(), edgeData.get(i), bothWays[i], 
+						false);
+		}
+		
+		this.routeIndices.clear();
+		clearRoutingTables();
+	}
+	
+	/**
+	 * Changes the current area without starting or ending any areas. Used when a 
+	 * {@link WorldSnapshot} is restored, since the snapshot handles the area states itself.
+	 * @param node The new current area (null if there is no current area)
+	 */
+	void setCurrentArea(GraphNode<Area, T> node)
+	{
+		this.currentNode = node;
+		updatePrefetch();
+	}
+	
+	/**
+	 * Creates a connecting edge between two nodes
+	 * @param startNode The node the edge leaves from
+	 * @param endNode The node the edge goes to
+	 * @param edgeData The data contained within the edge
+	 * @param bothWays If the edge should be two way instead of one way
+	 * @param overWrite Should the previous edge data be overwritten if it exists
+	 */
+	void connectAreas(GraphNode<Area, T> startNode, GraphNode<Area, T> endNode, T edgeData, 
+			boolean bothWays, boolean overWrite)
+	{
+		connectNodes(startNode.getID(), endNode.getID(), edgeData, bothWays, overWrite);
+		
+		// The route indices of the connected nodes are rebuilt when they are next used
+		this.routeIndices.remove(startNode);
+		this.routeIndices.remove(endNode);
+		clearRoutingTables();
 	}
 	
 	private boolean moveTo(GraphNode<Area, T> newNode)
@@ -167,12 +441,391 @@ public class AreaGraph<T> extends Graph<Area, T>
 		if (this.currentNode != null)
 			previousArea = this.currentNode.getData();
 		
+		if (this.prefetchDepth > 0)
+		{
+			if (this.prefetchedNodes.containsKey(newNode))
+				this.prefetchHits ++;
+			else
+				this.prefetchMisses ++;
+		}
+		
 		this.currentNode = newNode;
 		this.currentNode.getData().start(false);
 		
+		// The phases are acquired before the previous area ends so that the shared phases 
+		// stay active
+		updatePrefetch();
+		
 		if (previousArea != null)
 			previousArea.end();
 		
+		// Areas can only be warmed up while they are inactive
+		warmUpPrefetched();
+		
 		return true;
 	}
+	
+	private List<T> findRoute(GraphNode<Area, T> start, GraphNode<Area, T> destination)
+	{
+		if (start == null || destination == null)
+			return null;
+		if (start == destination)
+			return Collections.emptyList();
+		
+		// The routing table of each area is built with a breadth first search
+		Map<GraphNode<Area, T>, GraphEdge<Area, T>> routingTable = 
+				this.routingTables.get(start);
+		if (routingTable == null)
+		{
+			routingTable = new HashMap<>();
+			Deque<GraphNode<Area, T>> queue = new ArrayDeque<>();
+			queue.add(start);
+			
+			while (!queue.isEmpty())
+			{
+				GraphNode<Area, T> node = queue.poll();
+				for (GraphEdge<Area, T> edge : getRouteIndex(node).edgesByRoute.values())
+				{
+					GraphNode<Area, T> neighbour = getOtherEnd(edge, node);
+					if (neighbour != start && !routingTable.containsKey(neighbour))
+					{
+						routingTable.put(neighbour, edge);
+						queue.add(neighbour);
+					}
+				}
+			}
+			
+			this.routingTables.put(start, routingTable);
+			
+			Iterator<GraphNode<Area, T>> iterator = this.routingTables.keySet().iterator();
+			while (this.routingTables.size() > MAX_CACHED_ROUTING_TABLES)
+			{
+				iterator.next();
+				iterator.remove();
+			}
+		}
+		
+		return buildRoute(routingTable, start, destination);
+	}
+	
+	private List<T> findRoute(GraphNode<Area, T> start, GraphNode<Area, T> destination, 
+			AreaRouteCostFunction<T> costFunction)
+	{
+		if (start == null || destination == null)
+			return null;
+		if (start == destination)
+			return Collections.emptyList();
+		
+		Map<GraphNode<Area, T>, Map<GraphNode<Area, T>, List<T>>> routesForFunction = 
+				this.cheapestRoutes.get(costFunction);
+		if (routesForFunction == null)
+		{
+			routesForFunction = new HashMap<>();
+			this.cheapestRoutes.put(costFunction, routesForFunction);
+			
+			// Cost functions are often created for a single search, so the least recently 
+			// used ones are forgotten
+			Iterator<AreaRouteCostFunction<T>> iterator = 
+					this.cheapestRoutes.keySet().iterator();
+			while (this.cheapestRoutes.size() > MAX_CACHED_COST_FUNCTIONS)
+			{
+				iterator.next();
+				iterator.remove();
+			}
+		}
+		Map<GraphNode<Area, T>, List<T>> routes = routesForFunction.get(start);
+		if (routes == null)
+		{
+			routes = new HashMap<>();
+			routesForFunction.put(start, routes);
+		}
+		
+		// Unreachable destinations are cached as well
+		if (routes.containsKey(destination))
+			return routes.get(destination);
+		
+		List<T> route = searchCheapestRoute(start, destination, costFunction);
+		routes.put(destination, route);
+		return route;
+	}
+	
+	private List<T> searchCheapestRoute(GraphNode<Area, T> start, 
+			GraphNode<Area, T> destination, AreaRouteCostFunction<T> costFunction)
+	{
+		// Uses the A* algorithm
+		Map<GraphNode<Area, T>, Double> costs = new HashMap<>();
+		Map<GraphNode<Area, T>, GraphEdge<Area, T>> previousEdges = new HashMap<>();
+		Set<GraphNode<Area, T>> closed = new HashSet<>();
+		PriorityQueue<SearchStep> open = new PriorityQueue<>();
+		
+		costs.put(start, 0.0);
+		open.add(new SearchStep(start, 0, costFunction.estimateCost(start.getData(), 
+				destination.getData())));
+		
+		while (!open.isEmpty())
+		{
+			SearchStep step = open.poll();
+			if (!closed.add(step.node))
+				continue;
+			if (step.node == destination)
+				return buildRoute(previousEdges, start, destination);
+			
+			for (GraphEdge<Area, T> edge : getRouteIndex(step.node).edgesByRoute.values())
+			{
+				GraphNode<Area, T> neighbour = getOtherEnd(edge, step.node);
+				if (closed.contains(neighbour))
+					continue;
+				
+				double cost = step.cost + costFunction.getCost(step.node.getData(), 
+						neighbour.getData(), edge.getData());
+				if (Double.isInfinite(cost) || Double.isNaN(cost))
+					continue;
+				
+				Double previousCost = costs.get(neighbour);
+				if (previousCost == null || cost < previousCost)
+				{
+					costs.put(neighbour, cost);
+					previousEdges.put(neighbour, edge);
+					open.add(new SearchStep(neighbour, cost, cost + 
+							costFunction.estimateCost(neighbour.getData(), 
+							destination.getData())));
+				}
+			}
+		}
+		
+		return null;
+	}
+	
+	private List<T> buildRoute(Map<GraphNode<Area, T>, GraphEdge<Area, T>> previousEdges, 
+			GraphNode<Area, T> start, GraphNode<Area, T> destination)
+	{
+		if (!previousEdges.containsKey(destination))
+			return null;
+		
+		// Walks the route backwards from the destination
+		List<T> route = new ArrayList<>();
+		GraphNode<Area, T> node = destination;
+		while (node != start)
+		{
+			GraphEdge<Area, T> edge = previousEdges.get(node);
+			route.add(edge.getData());
+			node = getOtherEnd(edge, node);
+		}
+		Collections.reverse(route);
+		
+		return Collections.unmodifiableList(route);
+	}
+	
+	private RouteIndex getRouteIndex(GraphNode<Area, T> node)
+	{
+		RouteIndex index = this.routeIndices.get(node);
+		if (index == null)
+		{
+			index = new RouteIndex(node);
+			this.routeIndices.put(node, index);
+		}
+		
+		return index;
+	}
+	
+	private void updatePrefetch()
+	{
+		Set<GraphNode<Area, T>> inRange = findNodesInRange(this.currentNode, 
+				this.prefetchDepth);
+		
+		// Releases the areas that are no longer in range
+		List<GraphNode<Area, T>> released = new ArrayList<>();
+		for (GraphNode<Area, T> node : this.prefetchedNodes.keySet())
+		{
+			if (!inRange.contains(node))
+				released.add(node);
+		}
+		for (GraphNode<Area, T> node : released)
+		{
+			PhasePrefetch prefetch = this.prefetchedNodes.remove(node);
+			for (AreaObjectCreator<?> creator : node.getData().getObjectCreators())
+			{
+				creator.coolDown();
+			}
+			prefetch.release();
+		}
+		
+		// Prepares the new areas
+		for (GraphNode<Area, T> node : inRange)
+		{
+			if (this.prefetchedNodes.containsKey(node))
+				continue;
+			
+			Area area = node.getData();
+			GamePhase phase = area.getPhase();
+			PhasePrefetch prefetch = new PhasePrefetch(phase);
+			this.prefetchedNodes.put(node, prefetch);
+			
+			// Phases that are already in use only need a new reference, which keeps the 
+			// shared phases active. Other phases are started in the background.
+			if (this.prefetchExecutor == null || phase == null || 
+					GamePhaseUsageTracker.getReferenceCount(phase) > 0)
+				prefetch.run();
+			else
+				this.prefetchExecutor.execute(prefetch);
+			
+			for (AreaObjectCreator<?> creator : area.getObjectCreators())
+			{
+				if (creator.getBlueprintCache() == null && this.prefetchCache != null)
+					creator.setBlueprintCache(this.prefetchCache);
+				creator.prefetchBlueprint(this.prefetchExecutor);
+			}
+		}
+	}
+	
+	private void warmUpPrefetched()
+	{
+		if (this.prefetchExecutor == null)
+			return;
+		
+		for (GraphNode<Area, T> node : this.prefetchedNodes.keySet())
+		{
+			node.getData().warmUpObjects(this.prefetchExecutor);
+		}
+	}
+	
+	private Set<GraphNode<Area, T>> findNodesInRange(GraphNode<Area, T> origin, int depth)
+	{
+		Set<GraphNode<Area, T>> found = new LinkedHashSet<>();
+		if (origin == null || depth <= 0)
+			return found;
+		
+		// Performs a breadth first search up to the given depth
+		Set<GraphNode<Area, T>> visited = new HashSet<>();
+		visited.add(origin);
+		Deque<GraphNode<Area, T>> layer = new ArrayDeque<>();
+		layer.add(origin);
+		
+		for (int i = 0; i < depth && !layer.isEmpty(); i++)
+		{
+			Deque<GraphNode<Area, T>> nextLayer = new ArrayDeque<>();
+			for (GraphNode<Area, T> node : layer)
+			{
+				for (GraphEdge<Area, T> edge : node.getLeavingEdges())
+				{
+					GraphNode<Area, T> neighbour = getOtherEnd(edge, node);
+					if (visited.add(neighbour))
+					{
+						found.add(neighbour);
+						nextLayer.add(neighbour);
+					}
+				}
+			}
+			layer = nextLayer;
+		}
+		
+		return found;
+	}
+	
+	private static <T> GraphNode<Area, T> getOtherEnd(GraphEdge<Area, T> edge, 
+			GraphNode<Area, T> node)
+	{
+		// Two way edges may be stored in either direction
+		if (edge.getEndNode() == node)
+			return edge.getStartNode();
+		return edge.getEndNode();
+	}
+	
+	
+	// SUBCLASSES	-------------------------
+	
+	private static class PhasePrefetch implements Runnable
+	{
+		// ATTRIBUTES	---------------------
+		
+		private final GamePhase phase;
+		private boolean acquired = false, released = false;
+		
+		
+		// CONSTRUCTOR	---------------------
+		
+		public PhasePrefetch(GamePhase phase)
+		{
+			this.phase = phase;
+		}
+		
+		
+		// IMPLEMENTED METHODS	-------------
+		
+		@Override
+		public synchronized void run()
+		{
+			// The area may have been released before the executor got to it
+			if (this.phase == null || this.acquired || this.released)
+				return;
+			
+			GamePhaseUsageTracker.acquire(this.phase, false);
+			this.acquired = true;
+		}
+		
+		
+		// OTHER METHODS	-----------------
+		
+		public synchronized void release()
+		{
+			this.released = true;
+			if (this.acquired)
+			{
+				this.acquired = false;
+				GamePhaseUsageTracker.release(this.phase);
+			}
+		}
+	}
+	
+	private class RouteIndex
+	{
+		// ATTRIBUTES	---------------------
+		
+		private final Map<T, GraphEdge<Area, T>> edgesByRoute = new LinkedHashMap<>();
+		private final List<T> routes;
+		
+		
+		// CONSTRUCTOR	---------------------
+		
+		public RouteIndex(GraphNode<Area, T> node)
+		{
+			List<T> routes = new ArrayList<>();
+			for (GraphEdge<Area, T> edge : node.getLeavingEdges())
+			{
+				routes.add(edge.getData());
+				// If multiple edges have the same data, the first one is used as the route
+				if (!this.edgesByRoute.containsKey(edge.getData()))
+					this.edgesByRoute.put(edge.getData(), edge);
+			}
+			
+			this.routes = Collections.unmodifiableList(routes);
+		}
+	}
+	
+	private class SearchStep implements Comparable<SearchStep>
+	{
+		// ATTRIBUTES	---------------------
+		
+		private final GraphNode<Area, T> node;
+		private final double cost, estimatedTotalCost;
+		
+		
+		// CONSTRUCTOR	---------------------
+		
+		public SearchStep(GraphNode<Area, T> node, double cost, double estimatedTotalCost)
+		{
+			this.node = node;
+			this.cost = cost;
+			this.estimatedTotalCost = estimatedTotalCost;
+		}
+		
+		
+		// IMPLEMENTED METHODS	-------------
+		
+		@Override
+		public int compareTo(SearchStep other)
+		{
+			return Double.compare(this.estimatedTotalCost, other.estimatedTotalCost);
+		}
+	}
 }
@@ -0,0 +1,239 @@
+package exodus_world;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import exodus_world.CompiledAreaFiles.StringTable;
+import exodus_world.CompiledAreaFiles.StringTableBuilder;
+import flow_recording.ObjectFormatException;
+import flow_structure.GraphEdge;
+import flow_structure.GraphNode;
+
+/**
+ * AreaGraphFiles writes {@link AreaGraph}s into compiled binary files and reads them back. 
+ * The nodes are stored by their area's name and the edges as index pairs with direction 
+ * flags, followed by the edge data written by an {@link EdgeDataCodec}. A graph is read 
+ * in a single pass without searching the areas by name for each edge.<br>
+ * The files use the same header and string table as the other {@link CompiledAreaFiles}.
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class AreaGraphFiles
+{
+	// ATTRIBUTES	--------------------------
+	
+	private static final byte EDGE_BOTH_WAYS = 1;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private AreaGraphFiles()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Writes a graph into a file. Only the nodes that can be found by their area's name are 
+	 * written.
+	 * @param graph The graph that is written
+	 * @param codec The codec that writes the data of the edges
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @param compress Should the contents be compressed
+	 * @throws IOException If the writing failed
+	 */
+	public static <T> void writeGraph(AreaGraph<T> graph, EdgeDataCodec<T> codec, 
+			String fileName, boolean compress) throws IOException
+	{
+		StringTableBuilder strings = new StringTableBuilder();
+		ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+		DataOutputStream body = new DataOutputStream(bodyBytes);
+		
+		body.writeInt(strings.indexOf(graph.getUsedBankName()));
+		writeStructure(graph, codec, body, strings);
+		
+		body.flush();
+		CompiledAreaFiles.writeFile(fileName, CompiledAreaFiles.TYPE_GRAPH, strings, 
+				bodyBytes.toByteArray(), compress);
+	}
+	
+	/**
+	 * Reads a graph from a file. The graph uses the same area bank it used when it was 
+	 * written. The bank should be active. Areas that can't be found from the bank anymore 
+	 * are left out, along with their edges.
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @param codec The codec that reads the data of the edges
+	 * @return A graph read from the file
+	 * @throws IOException If the file couldn't be read or wasn't a compiled graph
+	 * @throws ObjectFormatException If the file's header is malformed
+	 */
+	public static <T> AreaGraph<T> readGraph(String fileName, EdgeDataCodec<T> codec) 
+			throws IOException, ObjectFormatException
+	{
+		ByteBuffer payload = CompiledAreaFiles.openPayload(fileName, 
+				CompiledAreaFiles.TYPE_GRAPH);
+		StringTable strings = new StringTable(payload);
+		DataInputStream body = CompiledAreaFiles.openBody(payload, strings);
+		
+		AreaGraph<T> graph = new AreaGraph<>(strings.get(body.readInt()), false);
+		readStructure(body, strings, codec).addTo(graph, true);
+		
+		return graph;
+	}
+	
+	/**
+	 * Writes the nodes and edges of a graph
+	 * @param graph The graph that is written
+	 * @param codec The codec that writes the data of the edges
+	 * @param output The stream the graph is written to
+	 * @param strings The string table used for the area names
+	 * @throws IOException If the writing failed
+	 */
+	static <T> void writeStructure(AreaGraph<T> graph, EdgeDataCodec<T> codec, 
+			DataOutputStream output, StringTableBuilder strings) throws IOException
+	{
+		List<GraphNode<Area, T>> nodes = new ArrayList<>(graph.getIndexedAreas());
+		Map<GraphNode<Area, T>, Integer> indices = new IdentityHashMap<>();
+		output.writeInt(nodes.size());
+		for (GraphNode<Area, T> node : nodes)
+		{
+			indices.put(node, indices.size());
+			output.writeInt(strings.indexOf(node.getData().getName()));
+		}
+		
+		ByteArrayOutputStream edgeBytes = new ByteArrayOutputStream();
+		DataOutputStream edgeOutput = new DataOutputStream(edgeBytes);
+		int edgeAmount = 0;
+		for (GraphNode<Area, T> node : nodes)
+		{
+			for (GraphEdge<Area, T> edge : node.getLeavingEdges())
+			{
+				// Two way edges are only written once
+				if (edge.isBothWays() && edge.getStartNode() != node)
+					continue;
+				
+				Integer start = indices.get(edge.getStartNode());
+				Integer end = indices.get(edge.getEndNode());
+				if (start == null || end == null)
+					continue;
+				
+				edgeOutput.writeInt(start);
+				edgeOutput.writeInt(end);
+				edgeOutput.writeByte(edge.isBothWays() ? EDGE_BOTH_WAYS : 0);
+				codec.write(edge.getData(), edgeOutput);
+				edgeAmount ++;
+			}
+		}
+		edgeOutput.flush();
+		
+		// The length of the edges is written so that they can be skipped
+		output.writeInt(edgeAmount);
+		output.writeInt(edgeBytes.size());
+		edgeBytes.writeTo(output);
+	}
+	
+	/**
+	 * Reads the nodes and edges of a graph
+	 * @param input The stream the graph is read from
+	 * @param strings The string table used for the area names
+	 * @param codec The codec that reads the data of the edges
+	 * @return The structure of the graph
+	 * @throws IOException If the reading failed
+	 * @see #writeStructure(AreaGraph, EdgeDataCodec, DataOutputStream, StringTableBuilder)
+	 */
+	static <T> Structure<T> readStructure(DataInputStream input, StringTable strings, 
+			EdgeDataCodec<T> codec) throws IOException
+	{
+		String[] areaNames = new String[input.readInt()];
+		for (int i = 0; i < areaNames.length; i++)
+		{
+			areaNames[i] = strings.get(input.readInt());
+		}
+		
+		Structure<T> structure = new Structure<>(areaNames, input.readInt());
+		input.readInt();
+		for (int i = 0; i < structure.starts.length; i++)
+		{
+			structure.starts[i] = input.readInt();
+			structure.ends[i] = input.readInt();
+			structure.bothWays[i] = (input.readByte() & EDGE_BOTH_WAYS) != 0;
+			structure.edgeData.add(codec.read(input));
+		}
+		
+		return structure;
+	}
+	
+	/**
+	 * Skips the nodes and edges of a graph
+	 * @param input The stream the graph is read from
+	 * @throws IOException If the reading failed
+	 */
+	static void skipStructure(DataInputStream input) throws IOException
+	{
+		input.skipBytes(4 * input.readInt());
+		input.readInt();
+		input.skipBytes(input.readInt());
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	/**
+	 * Structure contains the nodes and edges read from a file
+	 * @author Mikko Hilpinen
+	 * @param <T> The type of data contained within the edges
+	 * @since 18.10.2026
+	 */
+	static class Structure<T>
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final List<String> areaNames;
+		private final int[] starts, ends;
+		private final boolean[] bothWays;
+		private final List<T> edgeData;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		private Structure(String[] areaNames, int edgeAmount)
+		{
+			this.areaNames = Arrays.asList(areaNames);
+			this.starts = new int[edgeAmount];
+			this.ends = new int[edgeAmount];
+			this.bothWays = new boolean[edgeAmount];
+			this.edgeData = new ArrayList<>(edgeAmount);
+		}
+		
+		
+		// OTHER METHODS	------------------
+		
+		/**
+		 * Adds the nodes and edges to a graph
+		 * @param graph The graph the nodes and edges are added to
+		 * @param connect Should the edges be added. The nodes are always added.
+		 * @return The nodes in the order they were read. Null in place of the areas that 
+		 * couldn't be found from the graph's area bank.
+		 */
+		public List<GraphNode<Area, T>> addTo(AreaGraph<T> graph, boolean connect)
+		{
+			List<GraphNode<Area, T>> nodes = graph.addAreas(this.areaNames);
+			if (connect)
+				graph.connectAreas(nodes, this.starts, this.ends, this.bothWays, 
+						this.edgeData);
+			
+			return nodes;
+		}
+	}
+}
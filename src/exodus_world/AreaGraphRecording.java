@@ -10,7 +10,8 @@ import flow_structure.GraphRecording;
  * @author Mikko Hilpinen
  * @since 6.12.2014
  * @param <T> The type of data contained within the edges of the graph
- * @deprecated Graph recording is not supported on latest versions of Flow
+ * @deprecated Graph recording is not supported on latest versions of Flow. Use 
+ * {@link AreaGraphFiles} instead.
  */
 public class AreaGraphRecording<T> extends GraphRecording<Area, T>
 {
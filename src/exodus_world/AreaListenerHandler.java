@@ -6,17 +6,19 @@ import genesis_event.HandlerRelay;
 import genesis_event.HandlerType;
 
 /**
- * AreaListenerHandler informs areaListeners about area state changes
+ * AreaListenerHandler informs areaListeners about area state changes. AreaObjectListeners 
+ * are also informed when the objects of an area are ready.
  *
  * @author Mikko Hilpinen.
  * @since 11.7.2013.
  */
-public class AreaListenerHandler extends Handler<AreaListener> implements AreaListener
+public class AreaListenerHandler extends Handler<AreaListener> implements AreaObjectListener
 {
 	// ATTRIBUTES	------------------------------------------------------
 	
 	private Area lastArea;
 	private boolean newState; // TODO: Use events instead
+	private boolean objectsReady;
 	
 	
 	// CONSTRUCTOR	------------------------------------------------------
@@ -63,6 +65,16 @@ public class AreaListenerHandler extends Handler<AreaListener> implements AreaLi
 	{
 		this.lastArea = area;
 		this.newState = newState;
+		this.objectsReady = false;
+		handleObjects(false);
+		this.lastArea = null;
+	}
+	
+	@Override
+	public void onAreaObjectsReady(Area area)
+	{
+		this.lastArea = area;
+		this.objectsReady = true;
 		handleObjects(false);
 		this.lastArea = null;
 	}
@@ -76,7 +88,10 @@ public class AreaListenerHandler extends Handler<AreaListener> implements AreaLi
 	@Override
 	protected boolean handleObject(AreaListener h)
 	{
-		h.onAreaStateChange(this.lastArea, this.newState);
+		if (!this.objectsReady)
+			h.onAreaStateChange(this.lastArea, this.newState);
+		else if (h instanceof AreaObjectListener)
+			((AreaObjectListener) h).onAreaObjectsReady(this.lastArea);
 		return true;
 	}
 }
@@ -0,0 +1,267 @@
+package exodus_world;
+
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import flow_recording.ObjectFormatException;
+
+/**
+ * AreaManifestReader reads area descriptors from an area manifest one at a time. The 
+ * manifest is scanned directly from a character buffer, so no strings are created for the 
+ * lines or the separators and only a single line needs to fit into memory at a time. 
+ * Repeated gamePhase names share the same string instances.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see AreaManifestWriter
+ */
+public class AreaManifestReader implements Closeable
+{
+	// ATTRIBUTES	--------------------------
+	
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	
+	private final Reader reader;
+	private char[] buffer;
+	private int position = 0, scanPosition = 0, limit = 0;
+	private boolean endOfInput = false;
+	private String bankName = null;
+	private final List<String> bankNames = new ArrayList<>();
+	// The previous field values are reused when the next line contains the same values
+	private String previousPhaseBankName = null, previousPhaseName = null;
+	// Fields after the fourth one are ignored
+	private final int[] separators = new int[4];
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new reader
+	 * @param reader The reader that provides the manifest contents
+	 */
+	public AreaManifestReader(Reader reader)
+	{
+		this(reader, DEFAULT_BUFFER_SIZE);
+	}
+	
+	/**
+	 * Creates a new reader
+	 * @param reader The reader that provides the manifest contents
+	 * @param bufferSize How many characters are read from the reader at once. The buffer 
+	 * is enlarged if a line doesn't fit into it.
+	 */
+	public AreaManifestReader(Reader reader, int bufferSize)
+	{
+		this.reader = reader;
+		this.buffer = new char[Math.max(16, bufferSize)];
+	}
+	
+	/**
+	 * Opens a manifest file for reading
+	 * @param fileName The name of the manifest file ("data/" automatically included)
+	 * @return A reader that reads the file. The reader should be closed afterwards.
+	 * @throws FileNotFoundException If the file couldn't be found
+	 */
+	public static AreaManifestReader open(String fileName) throws FileNotFoundException
+	{
+		return new AreaManifestReader(new InputStreamReader(new FileInputStream( 
+				"data/" + fileName), StandardCharsets.UTF_8));
+	}
+	
+	
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	public void close() throws IOException
+	{
+		this.reader.close();
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return The name of the area bank the previously read area belongs to. Null if no 
+	 * bank has been read yet.
+	 */
+	public String getBankName()
+	{
+		return this.bankName;
+	}
+	
+	/**
+	 * @return The names of all the area banks read so far, including the banks that 
+	 * don't contain any areas
+	 */
+	public List<String> getBankNames()
+	{
+		return Collections.unmodifiableList(this.bankNames);
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Reads the next area in the manifest. Bank lines, empty lines and comments are 
+	 * skipped. The bank of the area can be checked with {@link #getBankName()}.
+	 * @return A descriptor of the next area. Null if there are no more areas.
+	 * @throws IOException If the reading failed
+	 * @throws ObjectFormatException If the manifest was malformed
+	 */
+	public AreaDescriptor next() throws IOException, ObjectFormatException
+	{
+		int lineEnd = findLineEnd();
+		while (lineEnd >= 0)
+		{
+			int start = this.position;
+			int end = lineEnd;
+			if (end > start && this.buffer[end - 1] == '\r')
+				end --;
+			
+			this.position = Math.min(lineEnd + 1, this.limit);
+			this.scanPosition = this.position;
+			
+			// Skips empty lines and comments
+			if (end > start && this.buffer[start] != '*')
+			{
+				if (this.buffer[start] == '&')
+				{
+					this.bankName = new String(this.buffer, start + 1, end - start - 1);
+					this.bankNames.add(this.bankName);
+				}
+				else if (this.bankName == null)
+					throw new ObjectFormatException("Area " + 
+							new String(this.buffer, start, end - start) + 
+							" is not in any bank");
+				else
+					return parseDescriptor(start, end);
+			}
+			
+			lineEnd = findLineEnd();
+		}
+		
+		return null;
+	}
+	
+	private int findLineEnd() throws IOException
+	{
+		while (true)
+		{
+			for (int i = this.scanPosition; i < this.limit; i++)
+			{
+				if (this.buffer[i] == '\n')
+					return i;
+			}
+			this.scanPosition = this.limit;
+			
+			if (this.endOfInput)
+			{
+				// The last line doesn't need to end with a line break
+				if (this.position < this.limit)
+					return this.limit;
+				return -1;
+			}
+			
+			fill();
+		}
+	}
+	
+	private void fill() throws IOException
+	{
+		// Moves the unfinished line to the beginning of the buffer
+		int remaining = this.limit - this.position;
+		if (this.position > 0)
+		{
+			System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+			this.scanPosition -= this.position;
+			this.position = 0;
+			this.limit = remaining;
+		}
+		// The buffer is enlarged if the line doesn't fit into it
+		else if (this.limit == this.buffer.length)
+		{
+			char[] larger = new char[this.buffer.length * 2];
+			System.arraycopy(this.buffer, 0, larger, 0, this.limit);
+			this.buffer = larger;
+		}
+		
+		int read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+		if (read < 0)
+			this.endOfInput = true;
+		else
+			this.limit += read;
+	}
+	
+	private AreaDescriptor parseDescriptor(int start, int end) throws ObjectFormatException
+	{
+		// Like in String.split(...), the trailing empty fields are dropped
+		while (end > start && this.buffer[end - 1] == '#')
+		{
+			end --;
+		}
+		
+		int[] separators = this.separators;
+		int separatorAmount = 0;
+		for (int i = start; i < end && separatorAmount < separators.length; i++)
+		{
+			if (this.buffer[i] == '#')
+				separators[separatorAmount ++] = i;
+		}
+		
+		if (separatorAmount == 0)
+			throw new ObjectFormatException("Can't construct an area from string: " + 
+					new String(this.buffer, start, end - start) + 
+					". The string has too few arguments.");
+		
+		String name = new String(this.buffer, start, separators[0] - start);
+		if (separatorAmount == 1)
+			return new AreaDescriptor(name, null, readPhaseName(separators[0] + 1, end), 
+					null);
+		
+		String phaseBankName = readPhaseBankName(separators[0] + 1, separators[1]);
+		if (separatorAmount == 2)
+			return new AreaDescriptor(name, phaseBankName, 
+					readPhaseName(separators[1] + 1, end), null);
+		
+		int fileEnd = separatorAmount == 3 ? end : separators[3];
+		return new AreaDescriptor(name, phaseBankName, 
+				readPhaseName(separators[1] + 1, separators[2]), 
+				new String(this.buffer, separators[2] + 1, fileEnd - separators[2] - 1));
+	}
+	
+	private String readPhaseBankName(int start, int end)
+	{
+		if (!matches(this.previousPhaseBankName, start, end))
+			this.previousPhaseBankName = new String(this.buffer, start, end - start);
+		return this.previousPhaseBankName;
+	}
+	
+	private String readPhaseName(int start, int end)
+	{
+		if (!matches(this.previousPhaseName, start, end))
+			this.previousPhaseName = new String(this.buffer, start, end - start);
+		return this.previousPhaseName;
+	}
+	
+	private boolean matches(String s, int start, int end)
+	{
+		if (s == null || s.length() != end - start)
+			return false;
+		
+		for (int i = 0; i < s.length(); i++)
+		{
+			if (s.charAt(i) != this.buffer[start + i])
+				return false;
+		}
+		
+		return true;
+	}
+}
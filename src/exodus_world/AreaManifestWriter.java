@@ -0,0 +1,143 @@
+package exodus_world;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import arc_bank.Bank;
+
+/**
+ * AreaManifestWriter writes areas into an area manifest one at a time. The areas are 
+ * written straight to the underlying writer, so whole banks can be written without 
+ * building the manifest in memory.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see AreaManifestReader
+ */
+public class AreaManifestWriter implements Closeable, Flushable
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final Writer writer;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new writer
+	 * @param writer The writer the manifest is written to. The writer is buffered if it 
+	 * isn't buffered already.
+	 */
+	public AreaManifestWriter(Writer writer)
+	{
+		if (writer instanceof BufferedWriter)
+			this.writer = writer;
+		else
+			this.writer = new BufferedWriter(writer);
+	}
+	
+	/**
+	 * Opens a manifest file for writing. Any previous contents of the file are replaced.
+	 * @param fileName The name of the manifest file ("data/" automatically included)
+	 * @return A writer that writes to the file. The writer should be closed afterwards.
+	 * @throws FileNotFoundException If the file couldn't be opened
+	 */
+	public static AreaManifestWriter open(String fileName) throws FileNotFoundException
+	{
+		return new AreaManifestWriter(new OutputStreamWriter(new FileOutputStream( 
+				"data/" + fileName), StandardCharsets.UTF_8));
+	}
+	
+	
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	public void flush() throws IOException
+	{
+		this.writer.flush();
+	}
+	
+	@Override
+	public void close() throws IOException
+	{
+		this.writer.close();
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Writes a whole area bank. The areas are written in the bank's order.
+	 * @param bankName The name of the bank
+	 * @param bank The bank that contains the areas
+	 * @throws IOException If the writing failed
+	 */
+	public void writeBank(String bankName, Bank<Area> bank) throws IOException
+	{
+		writeBankName(bankName);
+		for (String areaName : bank.getContentNames())
+		{
+			write(bank.get(areaName));
+		}
+	}
+	
+	/**
+	 * Starts a new area bank. The following areas will be placed into the bank.
+	 * @param bankName The name of the bank
+	 * @throws IOException If the writing failed
+	 */
+	public void writeBankName(String bankName) throws IOException
+	{
+		this.writer.write('&');
+		this.writer.write(bankName);
+		this.writer.write('\n');
+	}
+	
+	/**
+	 * Writes an area into the current bank
+	 * @param area The area that is written
+	 * @throws IOException If the writing failed
+	 */
+	public void write(Area area) throws IOException
+	{
+		writeArea(area.getName(), area.getGamePhaseBankName(), area.getGamePhaseName(), 
+				area.getOjectConstructorFileName());
+	}
+	
+	/**
+	 * Writes an area into the current bank
+	 * @param descriptor The descriptor of the area that is written
+	 * @throws IOException If the writing failed
+	 */
+	public void write(AreaDescriptor descriptor) throws IOException
+	{
+		writeArea(descriptor.getName(), descriptor.getGamePhaseBankName(), 
+				descriptor.getGamePhaseName(), descriptor.getObjectConstructorFileName());
+	}
+	
+	private void writeArea(String name, String gamePhaseBankName, String gamePhaseName, 
+			String objectConstructorFileName) throws IOException
+	{
+		this.writer.write(name);
+		if (gamePhaseBankName != null)
+		{
+			this.writer.write('#');
+			this.writer.write(gamePhaseBankName);
+		}
+		this.writer.write('#');
+		this.writer.write(gamePhaseName);
+		if (objectConstructorFileName != null)
+		{
+			this.writer.write('#');
+			this.writer.write(objectConstructorFileName);
+		}
+		this.writer.write('\n');
+	}
+}
@@ -0,0 +1,313 @@
+package exodus_world;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import utopia.exodus.world.LatencyHistogram;
+import utopia.exodus.world.RegisteredMetrics;
+
+/**
+ * AreaMetrics records how expensive an area is to use. Each area has its own metrics, 
+ * which are registered to the platform MBeanServer when the area is created. Recording 
+ * uses lock-free counters and doesn't allocate memory, so the metrics can be left on.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see Area#getMetrics()
+ */
+public class AreaMetrics extends RegisteredMetrics implements AreaMetricsMBean
+{
+	// ATTRIBUTES	--------------------------
+	
+	/**
+	 * The domain the metrics are registered under
+	 */
+	public static final String DOMAIN = "exodus_world";
+	
+	private static volatile boolean registrationEnabled = true;
+	
+	private final LatencyHistogram activations = new LatencyHistogram(), 
+			deactivations = new LatencyHistogram(), phaseStarts = new LatencyHistogram(), 
+			phaseEnds = new LatencyHistogram(), constructions = new LatencyHistogram(), 
+			dispatches = new LatencyHistogram();
+	private final AtomicLong constructedObjects = new AtomicLong(), 
+			liveObjects = new AtomicLong();
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates new metrics
+	 * @param areaName The name of the area the metrics are recorded for
+	 */
+	public AreaMetrics(String areaName)
+	{
+		super(DOMAIN, areaName);
+	}
+	
+	
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	public long getActivationCount()
+	{
+		return this.activations.getCount();
+	}
+	
+	@Override
+	public double getActivationLatencyMean()
+	{
+		return this.activations.getMeanMillis();
+	}
+	
+	@Override
+	public double getActivationLatency50thPercentile()
+	{
+		return this.activations.getPercentileMillis(50);
+	}
+	
+	@Override
+	public double getActivationLatency90thPercentile()
+	{
+		return this.activations.getPercentileMillis(90);
+	}
+	
+	@Override
+	public double getActivationLatency99thPercentile()
+	{
+		return this.activations.getPercentileMillis(99);
+	}
+	
+	@Override
+	public double getActivationLatencyMax()
+	{
+		return this.activations.getMaxMillis();
+	}
+	
+	@Override
+	public long getDeactivationCount()
+	{
+		return this.deactivations.getCount();
+	}
+	
+	@Override
+	public double getDeactivationLatencyMean()
+	{
+		return this.deactivations.getMeanMillis();
+	}
+	
+	@Override
+	public double getDeactivationLatency50thPercentile()
+	{
+		return this.deactivations.getPercentileMillis(50);
+	}
+	
+	@Override
+	public double getDeactivationLatency90thPercentile()
+	{
+		return this.deactivations.getPercentileMillis(90);
+	}
+	
+	@Override
+	public double getDeactivationLatency99thPercentile()
+	{
+		return this.deactivations.getPercentileMillis(99);
+	}
+	
+	@Override
+	public double getDeactivationLatencyMax()
+	{
+		return this.deactivations.getMaxMillis();
+	}
+	
+	@Override
+	public long getPhaseStartCount()
+	{
+		return this.phaseStarts.getCount();
+	}
+	
+	@Override
+	public double getPhaseStartTimeMean()
+	{
+		return this.phaseStarts.getMeanMillis();
+	}
+	
+	@Override
+	public double getPhaseStartTimeMax()
+	{
+		return this.phaseStarts.getMaxMillis();
+	}
+	
+	@Override
+	public long getPhaseEndCount()
+	{
+		return this.phaseEnds.getCount();
+	}
+	
+	@Override
+	public double getPhaseEndTimeMean()
+	{
+		return this.phaseEnds.getMeanMillis();
+	}
+	
+	@Override
+	public double getPhaseEndTimeMax()
+	{
+		return this.phaseEnds.getMaxMillis();
+	}
+	
+	@Override
+	public long getConstructionCount()
+	{
+		return this.constructions.getCount();
+	}
+	
+	@Override
+	public long getConstructedObjectCount()
+	{
+		return this.constructedObjects.get();
+	}
+	
+	@Override
+	public double getConstructionTimeMean()
+	{
+		return this.constructions.getMeanMillis();
+	}
+	
+	@Override
+	public double getConstructionTime99thPercentile()
+	{
+		return this.constructions.getPercentileMillis(99);
+	}
+	
+	@Override
+	public double getConstructionTimeMax()
+	{
+		return this.constructions.getMaxMillis();
+	}
+	
+	@Override
+	public long getListenerDispatchCount()
+	{
+		return this.dispatches.getCount();
+	}
+	
+	@Override
+	public double getListenerDispatchTimeMean()
+	{
+		return this.dispatches.getMeanMillis();
+	}
+	
+	@Override
+	public double getListenerDispatchTime99thPercentile()
+	{
+		return this.dispatches.getPercentileMillis(99);
+	}
+	
+	@Override
+	public double getListenerDispatchTimeMax()
+	{
+		return this.dispatches.getMaxMillis();
+	}
+	
+	@Override
+	public long getLiveObjectCount()
+	{
+		return this.liveObjects.get();
+	}
+	
+	@Override
+	public void reset()
+	{
+		this.activations.reset();
+		this.deactivations.reset();
+		this.phaseStarts.reset();
+		this.phaseEnds.reset();
+		this.constructions.reset();
+		this.dispatches.reset();
+		this.constructedObjects.set(0);
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * Changes whether the metrics of new areas are registered to the platform 
+	 * MBeanServer. The metrics are recorded in either case.
+	 * @param enabled Should the metrics of new areas be registered
+	 */
+	public static void setRegistrationEnabled(boolean enabled)
+	{
+		registrationEnabled = enabled;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Records the time it took to change the area's state
+	 * @param activated Was the area started (true) or ended (false)
+	 * @param nanos The duration of the state change in nanoseconds
+	 */
+	void recordStateChange(boolean activated, long nanos)
+	{
+		if (activated)
+			this.activations.record(nanos);
+		else
+			this.deactivations.record(nanos);
+	}
+	
+	/**
+	 * Records the time it took to start or release the area's gamePhase
+	 * @param started Was the phase started (true) or released (false)
+	 * @param nanos The duration in nanoseconds
+	 */
+	void recordPhaseChange(boolean started, long nanos)
+	{
+		if (started)
+			this.phaseStarts.record(nanos);
+		else
+			this.phaseEnds.record(nanos);
+	}
+	
+	/**
+	 * Records the construction of the area's objects
+	 * @param nanos The time spent constructing the objects in nanoseconds
+	 * @param objectAmount How many objects were constructed
+	 */
+	void recordConstruction(long nanos, int objectAmount)
+	{
+		this.constructions.record(nanos);
+		this.constructedObjects.addAndGet(objectAmount);
+	}
+	
+	/**
+	 * Records the time it took to inform the area listeners about an event
+	 * @param nanos The duration in nanoseconds
+	 */
+	void recordListenerDispatch(long nanos)
+	{
+		this.dispatches.record(nanos);
+	}
+	
+	/**
+	 * Updates the amount of objects in the area
+	 * @param change How much the amount changed
+	 */
+	void addLiveObjects(int change)
+	{
+		if (change != 0)
+			this.liveObjects.addAndGet(change);
+	}
+	
+	/**
+	 * Registers the metrics to the platform MBeanServer, unless the registration has been 
+	 * disabled
+	 * @see #setRegistrationEnabled(boolean)
+	 */
+	@Override
+	public synchronized void register()
+	{
+		if (registrationEnabled)
+			super.register();
+	}
+}
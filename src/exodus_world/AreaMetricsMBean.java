@@ -0,0 +1,162 @@
+package exodus_world;
+
+/**
+ * This is the management interface of {@link AreaMetrics}. The durations are reported in 
+ * milliseconds. The percentiles are accurate to a power of two.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public interface AreaMetricsMBean
+{
+	/**
+	 * @return The name of the area
+	 */
+	public String getAreaName();
+	
+	/**
+	 * @return How many times the area has been started
+	 */
+	public long getActivationCount();
+	
+	/**
+	 * @return The average time it took to start the area
+	 */
+	public double getActivationLatencyMean();
+	
+	/**
+	 * @return The median time it took to start the area
+	 */
+	public double getActivationLatency50thPercentile();
+	
+	/**
+	 * @return The 90th percentile of the time it took to start the area
+	 */
+	public double getActivationLatency90thPercentile();
+	
+	/**
+	 * @return The 99th percentile of the time it took to start the area
+	 */
+	public double getActivationLatency99thPercentile();
+	
+	/**
+	 * @return The longest time it took to start the area
+	 */
+	public double getActivationLatencyMax();
+	
+	/**
+	 * @return How many times the area has been ended
+	 */
+	public long getDeactivationCount();
+	
+	/**
+	 * @return The average time it took to end the area
+	 */
+	public double getDeactivationLatencyMean();
+	
+	/**
+	 * @return The median time it took to end the area
+	 */
+	public double getDeactivationLatency50thPercentile();
+	
+	/**
+	 * @return The 90th percentile of the time it took to end the area
+	 */
+	public double getDeactivationLatency90thPercentile();
+	
+	/**
+	 * @return The 99th percentile of the time it took to end the area
+	 */
+	public double getDeactivationLatency99thPercentile();
+	
+	/**
+	 * @return The longest time it took to end the area
+	 */
+	public double getDeactivationLatencyMax();
+	
+	/**
+	 * @return How many times the area has started its gamePhase
+	 */
+	public long getPhaseStartCount();
+	
+	/**
+	 * @return The average time it took to start the gamePhase
+	 */
+	public double getPhaseStartTimeMean();
+	
+	/**
+	 * @return The longest time it took to start the gamePhase
+	 */
+	public double getPhaseStartTimeMax();
+	
+	/**
+	 * @return How many times the area has released its gamePhase
+	 */
+	public long getPhaseEndCount();
+	
+	/**
+	 * @return The average time it took to release the gamePhase
+	 */
+	public double getPhaseEndTimeMean();
+	
+	/**
+	 * @return The longest time it took to release the gamePhase
+	 */
+	public double getPhaseEndTimeMax();
+	
+	/**
+	 * @return How many times the area's objects have been constructed
+	 */
+	public long getConstructionCount();
+	
+	/**
+	 * @return How many objects have been constructed in total
+	 */
+	public long getConstructedObjectCount();
+	
+	/**
+	 * @return The average time it took to construct the area's objects
+	 */
+	public double getConstructionTimeMean();
+	
+	/**
+	 * @return The 99th percentile of the time it took to construct the area's objects
+	 */
+	public double getConstructionTime99thPercentile();
+	
+	/**
+	 * @return The longest time it took to construct the area's objects
+	 */
+	public double getConstructionTimeMax();
+	
+	/**
+	 * @return How many area events have been dispatched to the listeners
+	 */
+	public long getListenerDispatchCount();
+	
+	/**
+	 * @return The average time it took to inform the listeners about an event
+	 */
+	public double getListenerDispatchTimeMean();
+	
+	/**
+	 * @return The 99th percentile of the time it took to inform the listeners about an 
+	 * event
+	 */
+	public double getListenerDispatchTime99thPercentile();
+	
+	/**
+	 * @return The longest time it took to inform the listeners about an event
+	 */
+	public double getListenerDispatchTimeMax();
+	
+	/**
+	 * @return How many objects the area's objectCreators currently have in the area
+	 */
+	public long getLiveObjectCount();
+	
+	/**
+	 * Removes all the recorded durations and counts (except the live object count)
+	 */
+	public void reset();
+}
@@ -0,0 +1,377 @@
+package exodus_world;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import flow_recording.AbstractConstructor;
+import flow_recording.Constructable;
+import flow_recording.ObjectFormatException;
+import flow_recording.TextConstructorInstructor;
+
+/**
+ * AreaObjectBlueprints are parsed, immutable versions of area object files. A blueprint can 
+ * be used for constructing the same objects multiple times without having to read the 
+ * file again.
+ * 
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see AreaObjectBlueprintCache
+ */
+public class AreaObjectBlueprint
+{
+	// ATTRIBUTES	--------------------------
+	
+	/**
+	 * The prefix of the comment lines in the object files
+	 */
+	public static final String COMMENT_PREFIX = "*";
+	
+	private final List<Entry> entries;
+	private final long estimatedSize;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new blueprint
+	 * @param entries The objects described in the blueprint, in construction order
+	 */
+	public AreaObjectBlueprint(List<Entry> entries)
+	{
+		this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+		
+		long size = 16;
+		for (Entry entry : this.entries)
+		{
+			size += entry.getEstimatedSize();
+		}
+		this.estimatedSize = size;
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return The objects described in this blueprint, in construction order
+	 */
+	public List<Entry> getEntries()
+	{
+		return this.entries;
+	}
+	
+	/**
+	 * @return An estimate of how many bytes this blueprint takes in memory
+	 */
+	public long getEstimatedSize()
+	{
+		return this.estimatedSize;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Reads a blueprint from an object file. Text files are parsed with a 
+	 * {@link TextConstructorInstructor}, so they are read exactly like in the text based 
+	 * construction, links included. Lines starting with '*' are considered comments. 
+	 * Compiled object files are also accepted.
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @return A blueprint parsed from the file
+	 * @throws FileNotFoundException If the file couldn't be found
+	 * @see AreaFileCompiler
+	 */
+	public static AreaObjectBlueprint readFromFile(String fileName) 
+			throws FileNotFoundException
+	{
+		return readFromFile(fileName, CompiledAreaFiles.isCompiled(fileName));
+	}
+	
+	/**
+	 * Reads a blueprint from a file whose format is already known
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @param compiled Is the file in the compiled format
+	 * @return A blueprint parsed from the file
+	 * @throws FileNotFoundException If the file couldn't be found
+	 */
+	static AreaObjectBlueprint readFromFile(String fileName, boolean compiled) 
+			throws FileNotFoundException
+	{
+		if (compiled)
+		{
+			try
+			{
+				return CompiledAreaFiles.readBlueprint(fileName);
+			}
+			catch (IOException | ObjectFormatException e)
+			{
+				throw new AbstractConstructor.ConstructorException( 
+						"Couldn't read the compiled file " + fileName);
+			}
+		}
+		
+		// The instructor's calls are recorded instead of constructing actual objects
+		Recorder recorder = new Recorder();
+		new TextConstructorInstructor(recorder).constructFromFile(fileName, COMMENT_PREFIX);
+		return recorder.toBlueprint();
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	/**
+	 * An entry describes a single object in a blueprint
+	 * @author Mikko Hilpinen
+	 * @since 18.10.2026
+	 */
+	public static class Entry
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final String instruction, id;
+		private final String[] attributeNames, attributeValues, linkNames, linkTargets;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		/**
+		 * Creates a new entry without links
+		 * @param instruction The instruction used when constructing the object (optional)
+		 * @param id The identifier of the object
+		 * @param attributeNames The names of the object's attributes
+		 * @param attributeValues The values of the object's attributes. Must be as long as 
+		 * the attribute name array.
+		 */
+		public Entry(String instruction, String id, String[] attributeNames, 
+				String[] attributeValues)
+		{
+			this(instruction, id, attributeNames, attributeValues, new String[0], 
+					new String[0]);
+		}
+		
+		/**
+		 * Creates a new entry
+		 * @param instruction The instruction used when constructing the object (optional)
+		 * @param id The identifier of the object
+		 * @param attributeNames The names of the object's attributes
+		 * @param attributeValues The values of the object's attributes. Must be as long as 
+		 * the attribute name array.
+		 * @param linkNames The names of the object's links
+		 * @param linkTargets The identifiers of the linked objects. Must be as long as the 
+		 * link name array.
+		 */
+		public Entry(String instruction, String id, String[] attributeNames, 
+				String[] attributeValues, String[] linkNames, String[] linkTargets)
+		{
+			if (attributeNames.length != attributeValues.length)
+				throw new IllegalArgumentException( 
+						"Each attribute must have both a name and a value");
+			if (linkNames.length != linkTargets.length)
+				throw new IllegalArgumentException( 
+						"Each link must have both a name and a target");
+			
+			this.instruction = instruction;
+			this.id = id;
+			this.attributeNames = attributeNames.clone();
+			this.attributeValues = attributeValues.clone();
+			this.linkNames = linkNames.clone();
+			this.linkTargets = linkTargets.clone();
+		}
+		
+		
+		// ACCESSORS	----------------------
+		
+		/**
+		 * @return The instruction used when constructing the object. Null if no instruction 
+		 * was specified.
+		 */
+		public String getInstruction()
+		{
+			return this.instruction;
+		}
+		
+		/**
+		 * @return The identifier of the object
+		 */
+		public String getID()
+		{
+			return this.id;
+		}
+		
+		/**
+		 * @return How many attributes the object has
+		 */
+		public int getAttributeAmount()
+		{
+			return this.attributeNames.length;
+		}
+		
+		/**
+		 * @param index The index of the attribute
+		 * @return The name of the attribute
+		 */
+		public String getAttributeName(int index)
+		{
+			return this.attributeNames[index];
+		}
+		
+		/**
+		 * @param index The index of the attribute
+		 * @return The value of the attribute
+		 */
+		public String getAttributeValue(int index)
+		{
+			return this.attributeValues[index];
+		}
+		
+		/**
+		 * @return How many links the object has
+		 */
+		public int getLinkAmount()
+		{
+			return this.linkNames.length;
+		}
+		
+		/**
+		 * @param index The index of the link
+		 * @return The name of the link
+		 */
+		public String getLinkName(int index)
+		{
+			return this.linkNames[index];
+		}
+		
+		/**
+		 * @param index The index of the link
+		 * @return The identifier of the linked object
+		 */
+		public String getLinkTarget(int index)
+		{
+			return this.linkTargets[index];
+		}
+		
+		
+		// OTHER METHODS	------------------
+		
+		private long getEstimatedSize()
+		{
+			// Object headers, references and the string contents
+			long size = 48 + estimateSize(this.instruction) + estimateSize(this.id);
+			for (int i = 0; i < this.attributeNames.length; i++)
+			{
+				size += 8 + estimateSize(this.attributeNames[i]) + 
+						estimateSize(this.attributeValues[i]);
+			}
+			for (int i = 0; i < this.linkNames.length; i++)
+			{
+				size += 8 + estimateSize(this.linkNames[i]) + estimateSize(this.linkTargets[i]);
+			}
+			
+			return size;
+		}
+		
+		private static long estimateSize(String s)
+		{
+			if (s == null)
+				return 0;
+			return 40 + 2 * s.length();
+		}
+	}
+	
+	private static class Recorder extends AbstractConstructor<RecordedObject>
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final List<RecordedObject> objects = new ArrayList<>();
+		
+		
+		// IMPLEMENTED METHODS	--------------
+		
+		@Override
+		protected RecordedObject createConstructable(String instruction)
+		{
+			RecordedObject object = new RecordedObject(instruction);
+			this.objects.add(object);
+			return object;
+		}
+		
+		
+		// OTHER METHODS	------------------
+		
+		public AreaObjectBlueprint toBlueprint()
+		{
+			List<Entry> entries = new ArrayList<>(this.objects.size());
+			for (RecordedObject object : this.objects)
+			{
+				entries.add(object.toEntry());
+			}
+			
+			return new AreaObjectBlueprint(entries);
+		}
+	}
+	
+	private static class RecordedObject implements Constructable<RecordedObject>
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final String instruction;
+		private String id;
+		private List<String> attributeNames = new ArrayList<>(), attributeValues = 
+				new ArrayList<>(), linkNames = new ArrayList<>(), linkTargets = 
+				new ArrayList<>();
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public RecordedObject(String instruction)
+		{
+			this.instruction = instruction;
+		}
+		
+		
+		// IMPLEMENTED METHODS	--------------
+		
+		@Override
+		public String getID()
+		{
+			return this.id;
+		}
+		
+		@Override
+		public void setID(String id)
+		{
+			this.id = id;
+		}
+		
+		@Override
+		public void setAttribute(String attributeName, String attributeValue)
+		{
+			this.attributeNames.add(attributeName);
+			this.attributeValues.add(attributeValue);
+		}
+		
+		@Override
+		public void setLink(String linkName, RecordedObject target)
+		{
+			this.linkNames.add(linkName);
+			this.linkTargets.add(target.getID());
+		}
+		
+		
+		// OTHER METHODS	------------------
+		
+		public Entry toEntry()
+		{
+			return new Entry(this.instruction, this.id, toArray(this.attributeNames), 
+					toArray(this.attributeValues), toArray(this.linkNames), 
+					toArray(this.linkTargets));
+		}
+		
+		private static String[] toArray(List<String> strings)
+		{
+			return strings.toArray(new String[strings.size()]);
+		}
+	}
+}
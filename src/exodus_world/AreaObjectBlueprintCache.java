@@ -0,0 +1,181 @@
+package exodus_world;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AreaObjectBlueprintCache keeps the parsed versions of area object files in memory so that 
+ * the files don't need to be read each time an area starts. The least recently used 
+ * blueprints are evicted once the memory budget is exceeded. A blueprint is read again if 
+ * its file has been modified since it was parsed. The cache may be shared between 
+ * multiple threads.
+ * 
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class AreaObjectBlueprintCache
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final long memoryBudget;
+	private final LinkedHashMap<String, CachedBlueprint> blueprints = 
+			new LinkedHashMap<>(16, 0.75f, true);
+	private long usedMemory = 0;
+	private long hits = 0, misses = 0;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new cache
+	 * @param memoryBudget How many bytes (estimated) the cached blueprints may take in total
+	 */
+	public AreaObjectBlueprintCache(long memoryBudget)
+	{
+		this.memoryBudget = memoryBudget;
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return How many bytes (estimated) the cached blueprints may take in total
+	 */
+	public long getMemoryBudget()
+	{
+		return this.memoryBudget;
+	}
+	
+	/**
+	 * @return How many bytes (estimated) the cached blueprints currently take
+	 */
+	public synchronized long getUsedMemory()
+	{
+		return this.usedMemory;
+	}
+	
+	/**
+	 * @return How many blueprints are currently cached
+	 */
+	public synchronized int getSize()
+	{
+		return this.blueprints.size();
+	}
+	
+	/**
+	 * @return How many times a blueprint could be read from the cache
+	 */
+	public synchronized long getHitCount()
+	{
+		return this.hits;
+	}
+	
+	/**
+	 * @return How many times a blueprint had to be read from a file
+	 */
+	public synchronized long getMissCount()
+	{
+		return this.misses;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Finds a blueprint for the given object file. The file is only parsed if it hasn't 
+	 * been parsed before or if it has been modified after it was parsed.
+	 * @param fileName The name of the object file ("data/" automatically included)
+	 * @return A blueprint of the object file
+	 * @throws FileNotFoundException If the file couldn't be found
+	 */
+	public AreaObjectBlueprint getBlueprint(String fileName) throws FileNotFoundException
+	{
+		long lastModified = new File("data/" + fileName).lastModified();
+		
+		synchronized (this)
+		{
+			CachedBlueprint cached = this.blueprints.get(fileName);
+			if (cached != null && cached.lastModified == lastModified)
+			{
+				this.hits ++;
+				return cached.blueprint;
+			}
+			this.misses ++;
+		}
+		
+		// The file is read outside the lock
+		AreaObjectBlueprint blueprint = AreaObjectBlueprint.readFromFile(fileName);
+		put(fileName, blueprint, lastModified);
+		return blueprint;
+	}
+	
+	/**
+	 * Removes a blueprint from the cache
+	 * @param fileName The name of the object file the blueprint was read from
+	 */
+	public synchronized void invalidate(String fileName)
+	{
+		CachedBlueprint removed = this.blueprints.remove(fileName);
+		if (removed != null)
+			this.usedMemory -= removed.blueprint.getEstimatedSize();
+	}
+	
+	/**
+	 * Removes all blueprints from the cache
+	 */
+	public synchronized void clear()
+	{
+		this.blueprints.clear();
+		this.usedMemory = 0;
+	}
+	
+	private synchronized void put(String fileName, AreaObjectBlueprint blueprint, 
+			long lastModified)
+	{
+		// Blueprints that are larger than the whole budget are not cached
+		if (blueprint.getEstimatedSize() > this.memoryBudget)
+			return;
+		
+		CachedBlueprint previous = this.blueprints.put(fileName, 
+				new CachedBlueprint(blueprint, lastModified));
+		if (previous != null)
+			this.usedMemory -= previous.blueprint.getEstimatedSize();
+		this.usedMemory += blueprint.getEstimatedSize();
+		
+		// Evicts the least recently used blueprints until the budget is met
+		Iterator<Map.Entry<String, CachedBlueprint>> iterator = 
+				this.blueprints.entrySet().iterator();
+		while (this.usedMemory > this.memoryBudget && iterator.hasNext())
+		{
+			CachedBlueprint evicted = iterator.next().getValue();
+			if (evicted.blueprint == blueprint)
+				continue;
+			
+			this.usedMemory -= evicted.blueprint.getEstimatedSize();
+			iterator.remove();
+		}
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	private static class CachedBlueprint
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final AreaObjectBlueprint blueprint;
+		private final long lastModified;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public CachedBlueprint(AreaObjectBlueprint blueprint, long lastModified)
+		{
+			this.blueprint = blueprint;
+			this.lastModified = lastModified;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package exodus_world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import flow_recording.AbstractConstructor;
+import flow_recording.Constructable;
+import genesis_event.Handled;
+
+/**
+ * AreaObjectConstructors are able to construct objects from {@link AreaObjectBlueprint}s 
+ * in addition to the normal text based construction. Providers that return 
+ * AreaObjectConstructors allow the {@link AreaObjectCreator}s to use cached blueprints 
+ * instead of reading the object files each time.
+ * 
+ * @author Mikko Hilpinen
+ * @param <T> The type of object constructed by this constructor
+ * @since 18.10.2026
+ */
+public abstract class AreaObjectConstructor<T extends Handled & Constructable<T>> 
+		extends AbstractConstructor<T>
+{
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Constructs the objects described in the blueprint. The objects are not stored in this 
+	 * constructor.
+	 * @param blueprint The blueprint that describes the objects
+	 * @return The constructed objects in construction order
+	 */
+	public List<T> construct(AreaObjectBlueprint blueprint)
+	{
+		Construction construction = startConstruction(blueprint);
+		while (construction.constructNext())
+		{
+			// Constructs all the entries at once
+		}
+		
+		return construction.getConstructs();
+	}
+	
+	/**
+	 * Starts constructing the objects described in the blueprint. The entries are 
+	 * constructed one at a time by calling {@link Construction#constructNext()}, which 
+	 * allows the work to be split between multiple frames.
+	 * @param blueprint The blueprint that describes the objects
+	 * @return A construction that constructs the objects
+	 */
+	public Construction startConstruction(AreaObjectBlueprint blueprint)
+	{
+		return new Construction(blueprint);
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	/**
+	 * Constructions construct the objects in a blueprint one entry at a time. The links 
+	 * between the objects are set once all the entries have been constructed.
+	 * @author Mikko Hilpinen
+	 * @since 18.10.2026
+	 */
+	public class Construction
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final List<AreaObjectBlueprint.Entry> entries;
+		private final List<T> constructs;
+		private final Map<String, T> constructsByID = new HashMap<>();
+		private int nextIndex = 0;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		private Construction(AreaObjectBlueprint blueprint)
+		{
+			this.entries = blueprint.getEntries();
+			this.constructs = new ArrayList<>(this.entries.size());
+		}
+		
+		
+		// ACCESSORS	----------------------
+		
+		/**
+		 * @return The objects constructed so far in construction order
+		 */
+		public List<T> getConstructs()
+		{
+			return this.constructs;
+		}
+		
+		/**
+		 * @return Have all the entries been constructed
+		 */
+		public boolean isFinished()
+		{
+			return this.nextIndex >= this.entries.size();
+		}
+		
+		/**
+		 * @return How large a portion of the entries has been constructed [0, 1]
+		 */
+		public double getProgress()
+		{
+			if (this.entries.isEmpty())
+				return 1;
+			return this.nextIndex / (double) this.entries.size();
+		}
+		
+		
+		// OTHER METHODS	------------------
+		
+		/**
+		 * Constructs the next entry in the blueprint
+		 * @return Was there an entry to construct
+		 */
+		public boolean constructNext()
+		{
+			if (isFinished())
+				return false;
+			
+			AreaObjectBlueprint.Entry entry = this.entries.get(this.nextIndex ++);
+			
+			// Entries with the same identifier modify the same object
+			T construct = this.constructsByID.get(entry.getID());
+			if (construct == null)
+			{
+				construct = createConstructable(entry.getInstruction());
+				construct.setID(entry.getID());
+				this.constructsByID.put(entry.getID(), construct);
+				this.constructs.add(construct);
+			}
+			
+			for (int i = 0; i < entry.getAttributeAmount(); i++)
+			{
+				construct.setAttribute(entry.getAttributeName(i), entry.getAttributeValue(i));
+			}
+			
+			// The links may point to any object, so they are set last
+			if (isFinished())
+				setLinks();
+			
+			return true;
+		}
+		
+		private void setLinks()
+		{
+			for (AreaObjectBlueprint.Entry entry : this.entries)
+			{
+				if (entry.getLinkAmount() == 0)
+					continue;
+				
+				T construct = this.constructsByID.get(entry.getID());
+				for (int i = 0; i < entry.getLinkAmount(); i++)
+				{
+					T target = this.constructsByID.get(entry.getLinkTarget(i));
+					if (target != null)
+						construct.setLink(entry.getLinkName(i), target);
+				}
+			}
+		}
+	}
+}
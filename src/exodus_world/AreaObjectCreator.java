@@ -1,18 +1,30 @@
 package exodus_world;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import flow_recording.AbstractConstructor;
 import flow_recording.Constructable;
 import flow_recording.TextConstructorInstructor;
+import genesis_event.Actor;
 import genesis_event.Handled;
+import genesis_event.HandlerRelay;
 import genesis_util.HandlingStateOperatorRelay;
-import genesis_util.Killable;
 import genesis_util.StateOperator;
 
 /**
  * AreaObjectCreators create new objects each time an area is activated. They also kill the 
- * objects when the area ends.
+ * objects when the area ends. If the objects were constructed with a 
+ * {@link PooledAreaObjectConstructor}, they are returned to its pool instead. The work can 
+ * also be spread over multiple frames by giving the creator a frame budget. Compiled object 
+ * files (see {@link AreaFileCompiler}) can only be used with an {@link AreaObjectConstructor} 
+ * since they are read as blueprints.
  * 
  * @author Mikko Hilpinen
  * @param <T> The type of object constructed by this objectCreator
@@ -28,6 +40,25 @@ public class AreaObjectCreator<T extends Handled & Constructable<T>> implements
 	private Area area; // TODO: Remove this connection
 	private HandlingStateOperatorRelay operators; // TODO: Remove area listening and 
 	// handled implementation and make the area use an object creator / creators instead
+	private DetachedObjectConstructorProvider<T> detachedConstructorProvider;
+	private final AtomicReference<WarmUp> warmUp = new AtomicReference<>();
+	private AbstractConstructor<T> liveConstructor;
+	private List<T> liveConstructs = new ArrayList<>();
+	private volatile AreaObjectBlueprintCache blueprintCache = null;
+	private long frameBudgetNanos = 0;
+	private Spawning spawning = null;
+	private Teardown teardown = null;
+	private HandlerRelay teardownHandlers = null;
+	private boolean objectsReady = false;
+	private AreaRetentionCache retentionCache = null;
+	private AbstractConstructor<T> retainedConstructor;
+	private List<T> retainedConstructs;
+	private int reportedLiveObjects = 0;
+	private AreaObjectBlueprint restoredBlueprint = null;
+	private Map<String, Map<String, String>> restoredLinks = null;
+	private volatile Boolean compiledFile = null;
+	// Changes each time the live objects are replaced or new objects are spawned
+	private volatile long objectVersion = 0;
 	
 	
 	// CONSTRUCTOR	---------------------------
@@ -50,7 +81,10 @@ public class AreaObjectCreator<T extends Handled & Constructable<T>> implements
 		
 		// Adds the object to the handler(s)
 		if (area != null)
+		{
 			this.area.getListenerHandler().add(this);
+			this.area.addObjectCreator(this);
+		}
 	}
 	
 	/**
@@ -70,7 +104,26 @@ public class AreaObjectCreator<T extends Handled & Constructable<T>> implements
 		
 		// Adds the object to the handler(s)
 		if (area != null)
+		{
 			this.area.getListenerHandler().add(this);
+			this.area.addObjectCreator(this);
+		}
+	}
+	
+	/**
+	 * Creates a new AreaObjectCreator. The creator uses the file indicated by the given area 
+	 * to create its objects. Since the provider is able to construct detached objects, the 
+	 * creator can be warmed up before the area starts.
+	 * @param constructorProvider The provider that provides the constructors used for 
+	 * constructing the objects
+	 * @param area the area the objects will be placed to
+	 * @see #warmUp(Executor)
+	 */
+	public AreaObjectCreator(DetachedObjectConstructorProvider<T> constructorProvider, 
+			Area area)
+	{
+		this(constructorProvider.getConstructor(area), area);
+		this.detachedConstructorProvider = constructorProvider;
 	}
 	
 	
@@ -88,31 +141,778 @@ public class AreaObjectCreator<T extends Handled & Constructable<T>> implements
 	{
 		// When area starts, creates new objects
 		if (newState)
+			createObjects();
+		// When area ends, kills them
+		else
+		{
+			killObjects();
+			reportLiveObjects();
+		}
+	}
+
+	@Override
+	public HandlingStateOperatorRelay getHandlingOperators() // TODO: Remove
+	{
+		return this.operators;
+	}
+	
+	
+	// OTHER METHODS	---------------------------------
+	
+	/**
+	 * Makes the creator use cached blueprints instead of reading the object file each time 
+	 * the area starts. Blueprints are only used if the constructor is an 
+	 * {@link AreaObjectConstructor}.
+	 * @param blueprintCache The cache that provides the blueprints (null if the file 
+	 * should be read each time)
+	 */
+	public void setBlueprintCache(AreaObjectBlueprintCache blueprintCache)
+	{
+		this.blueprintCache = blueprintCache;
+	}
+	
+	/**
+	 * @return The cache that provides the blueprints for this creator. Null if the object 
+	 * file is read each time.
+	 */
+	public AreaObjectBlueprintCache getBlueprintCache()
+	{
+		return this.blueprintCache;
+	}
+	
+	/**
+	 * Reads the object file into the blueprint cache in advance using the provided executor. 
+	 * Nothing is done if the creator doesn't use a blueprint cache.
+	 * @param executor The executor that reads the file
+	 * @return Is the blueprint being read
+	 */
+	public boolean prefetchBlueprint(Executor executor)
+	{
+		final AreaObjectBlueprintCache blueprints = this.blueprintCache;
+		final String fileName = this.fileName;
+		if (blueprints == null || fileName == null)
+			return false;
+		
+		executor.execute(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				try
+				{
+					blueprints.getBlueprint(fileName);
+				}
+				catch (FileNotFoundException | RuntimeException e)
+				{
+					// The error is reported when the area starts
+				}
+			}
+		});
+		
+		return true;
+	}
+	
+	/**
+	 * Makes the creator keep its objects dormant when the area ends so that they can be 
+	 * reused when the area starts again. The objects are killed normally once they are 
+	 * evicted from the cache.
+	 * @param retentionCache The cache that keeps the objects (null if the objects should 
+	 * always be killed when the area ends)
+	 */
+	public void setRetentionCache(AreaRetentionCache retentionCache)
+	{
+		// The objects in the previous cache are released
+		if (this.retentionCache != null && this.retentionCache.forget(this))
+			releaseRetainedObjects();
+		
+		this.retentionCache = retentionCache;
+	}
+	
+	/**
+	 * Makes the creator spread the creation of its objects over multiple frames. The work is 
+	 * done by an actor placed into the area's handlers, which only uses the given amount of 
+	 * time each frame. Objects are only created incrementally if the constructor is an 
+	 * {@link AreaObjectConstructor}. The objects are still removed all at once, since the 
+	 * area's handlers stop once the area ends.
+	 * @param frameBudgetMillis How many milliseconds may be used for the work each frame 
+	 * (0 or less if all the work should be done at once)
+	 * @see #setFrameBudget(double, HandlerRelay)
+	 * @see AreaObjectListener
+	 */
+	public void setFrameBudget(double frameBudgetMillis)
+	{
+		setFrameBudget(frameBudgetMillis, null);
+	}
+	
+	/**
+	 * Makes the creator spread the creation and removal of its objects over multiple frames. 
+	 * The objects are created by an actor placed into the area's handlers. Since those 
+	 * handlers stop once the area ends, the objects are removed by an actor placed into the 
+	 * given handlers instead. The handlers should keep acting while the area is inactive, 
+	 * the window's handlers for example.
+	 * @param frameBudgetMillis How many milliseconds may be used for the work each frame 
+	 * (0 or less if all the work should be done at once)
+	 * @param teardownHandlers The handlers that remove the objects after the area has ended. 
+	 * Null if the objects should be removed all at once.
+	 * @see AreaObjectListener
+	 */
+	public void setFrameBudget(double frameBudgetMillis, HandlerRelay teardownHandlers)
+	{
+		this.frameBudgetNanos = Math.max(0, (long) (frameBudgetMillis * 1000000));
+		this.teardownHandlers = teardownHandlers;
+	}
+	
+	/**
+	 * @return Have all the objects been created since the area started
+	 */
+	public boolean areObjectsReady()
+	{
+		return this.objectsReady;
+	}
+	
+	/**
+	 * @return How large a portion of the objects has been created since the area started 
+	 * [0, 1]
+	 */
+	public double getProgress()
+	{
+		if (this.objectsReady)
+			return 1;
+		if (this.spawning != null)
+			return this.spawning.getProgress();
+		return 0;
+	}
+	
+	/**
+	 * Starts constructing the area's objects in advance using the provided executor. The 
+	 * objects stay detached from the area's handlers until the area starts, at which point 
+	 * they are simply attached. If the area starts before the objects are ready, they are 
+	 * constructed normally instead. Warming up is only possible when the creator was created 
+	 * with a {@link DetachedObjectConstructorProvider} and the area is not active.
+	 * @param executor The executor that will construct the objects
+	 * @return Is the creator being warmed up (or already warm)
+	 */
+	public boolean warmUp(Executor executor)
+	{
+		if (this.detachedConstructorProvider == null || this.fileName == null || 
+				this.area.getIsActiveStateOperator().getState())
+			return false;
+		
+		WarmUp current = this.warmUp.get();
+		if (current != null && !current.isAbandoned())
+			return true;
+		
+		WarmUp newWarmUp = new WarmUp();
+		if (this.warmUp.compareAndSet(current, newWarmUp))
+			executor.execute(newWarmUp);
+		
+		return true;
+	}
+	
+	/**
+	 * @return Are the area's objects already constructed and waiting for the area to start
+	 */
+	public boolean isWarm()
+	{
+		WarmUp current = this.warmUp.get();
+		return current != null && current.isReady();
+	}
+	
+	/**
+	 * Discards the objects that were constructed in advance. If the objects are still being 
+	 * constructed, they will be discarded once they are ready.
+	 */
+	public void coolDown()
+	{
+		WarmUp current = this.warmUp.getAndSet(null);
+		if (current != null)
+			current.abandon();
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void createObjects()
+	{
+		// The previous objects must be removed before the constructor can be used again
+		if (this.teardown != null)
+			this.teardown.finish();
+		long startTime = System.nanoTime();
+		this.objectVersion ++;
+		
+		// Objects restored from a snapshot replace the ones in the object file
+		if (this.restoredBlueprint != null)
+		{
+			List<T> constructs = ((AreaObjectConstructor<T>) this.constructor).construct( 
+					this.restoredBlueprint);
+			restoreLinks(constructs, this.restoredLinks);
+			this.restoredBlueprint = null;
+			this.restoredLinks = null;
+			
+			this.liveConstructs.addAll(constructs);
+			this.liveConstructor = this.constructor;
+			setObjectsReady(System.nanoTime() - startTime, constructs.size());
+			return;
+		}
+		
+		// Reuses the objects retained when the area ended, if possible
+		if (this.retentionCache != null && this.retentionCache.reclaim(this) && 
+				this.retainedConstructs != null)
+		{
+			this.liveConstructs.addAll(this.retainedConstructs);
+			this.liveConstructor = this.retainedConstructor;
+			this.retainedConstructs = null;
+			this.retainedConstructor = null;
+			
+			coolDown();
+			setObjectsReady(0, 0);
+			return;
+		}
+		
+		// Uses the pre-constructed objects if they are ready
+		WarmUp current = this.warmUp.getAndSet(null);
+		if (current != null && current.claim())
+			attachObjects(current.getConstructor(), current.getConstructs());
+		else
 		{
 			try
 			{
-				this.instructor.constructFromFile(this.fileName, "*");
+				// May construct the objects over multiple frames
+				if (this.frameBudgetNanos > 0 && this.constructor instanceof 
+						AreaObjectConstructor)
+				{
+					this.liveConstructor = this.constructor;
+					this.spawning = new Spawning(((AreaObjectConstructor<T>) 
+							this.constructor).startConstruction(readBlueprint()));
+					this.area.getHandlers().addHandled(this.spawning);
+					return;
+				}
+				
+				this.liveConstructs.addAll(constructObjects(this.constructor));
 			}
 			catch (FileNotFoundException e)
 			{
 				throw new AbstractConstructor.ConstructorException("Couldn't find the file " + 
 						this.fileName);
 			}
+			this.liveConstructor = this.constructor;
 		}
-		// When area ends, kills them
-		else
+		
+		setObjectsReady(System.nanoTime() - startTime, this.liveConstructs.size());
+	}
+	
+	private void setObjectsReady(long constructionNanos, int constructedAmount)
+	{
+		// Reclaimed objects aren't counted as constructed
+		if (constructedAmount > 0)
+			this.area.getMetrics().recordConstruction(constructionNanos, constructedAmount);
+		reportLiveObjects();
+		
+		this.objectsReady = true;
+		this.area.checkObjectsReady();
+	}
+	
+	private void reportLiveObjects()
+	{
+		int liveObjects = this.liveConstructs.size();
+		this.area.getMetrics().addLiveObjects(liveObjects - this.reportedLiveObjects);
+		this.reportedLiveObjects = liveObjects;
+	}
+	
+	private AreaObjectBlueprint readBlueprint() throws FileNotFoundException
+	{
+		AreaObjectBlueprintCache blueprints = this.blueprintCache;
+		if (blueprints != null)
+			return blueprints.getBlueprint(this.fileName);
+		return AreaObjectBlueprint.readFromFile(this.fileName, isCompiledFile());
+	}
+	
+	private boolean isCompiledFile()
+	{
+		// The format is only checked once since checking requires opening the file
+		Boolean compiled = this.compiledFile;
+		if (compiled == null)
+		{
+			compiled = CompiledAreaFiles.isCompiled(this.fileName);
+			this.compiledFile = compiled;
+		}
+		return compiled;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private List<T> constructObjects(AbstractConstructor<T> constructor) 
+			throws FileNotFoundException
+	{
+		// Uses a cached blueprint if possible
+		AreaObjectBlueprintCache blueprints = this.blueprintCache;
+		if (blueprints != null && constructor instanceof AreaObjectConstructor)
+			return ((AreaObjectConstructor<T>) constructor).construct( 
+					blueprints.getBlueprint(this.fileName));
+		
+		// Compiled files can't be read as text
+		if (isCompiledFile())
+		{
+			if (!(constructor instanceof AreaObjectConstructor))
+				throw new AbstractConstructor.ConstructorException(this.fileName + 
+						" is compiled and compiled object files require an " + 
+						"AreaObjectConstructor");
+			return ((AreaObjectConstructor<T>) constructor).construct( 
+					AreaObjectBlueprint.readFromFile(this.fileName, true));
+		}
+		
+		// Otherwise reads the file
+		TextConstructorInstructor instructor = this.instructor;
+		if (constructor != this.constructor)
+			instructor = new TextConstructorInstructor(constructor);
+		instructor.constructFromFile(this.fileName, "*");
+		
+		return new ArrayList<>(constructor.getConstructs().values());
+	}
+	
+	private void attachObjects(AbstractConstructor<T> stagedConstructor, 
+			List<T> stagedConstructs)
+	{
+		HandlerRelay handlers = this.area.getHandlers();
+		for (T construct : stagedConstructs)
+		{
+			handlers.addHandled(construct);
+			this.liveConstructs.add(construct);
+		}
+		
+		this.liveConstructor = stagedConstructor;
+	}
+	
+	private void killObjects()
+	{
+		this.objectsReady = false;
+		this.objectVersion ++;
+		
+		// Stops the creation of new objects, if necessary
+		if (this.spawning != null)
+		{
+			this.spawning.stop();
+			this.liveConstructs.addAll(this.spawning.getConstructs());
+			this.spawning = null;
+		}
+		
+		// May keep the objects for later use
+		if (this.retentionCache != null && !this.liveConstructs.isEmpty())
 		{
-			for (Killable construct : this.constructor.getConstructs().values())
+			this.retainedConstructs = new ArrayList<>(this.liveConstructs);
+			this.retainedConstructor = this.liveConstructor;
+			
+			if (this.retentionCache.retain(this, this.retainedConstructs.size()))
 			{
-				construct.getIsDeadStateOperator().setState(true);
+				this.liveConstructs.clear();
+				this.liveConstructor = null;
+				return;
 			}
-			this.constructor.reset();
+			
+			this.retainedConstructs = null;
+			this.retainedConstructor = null;
+		}
+		
+		// May remove the objects over multiple frames, outside the area's handlers since they 
+		// no longer act
+		if (this.frameBudgetNanos > 0 && this.teardownHandlers != null && 
+				!this.liveConstructs.isEmpty())
+		{
+			this.teardown = new Teardown(this.liveConstructor, 
+					new ArrayList<>(this.liveConstructs));
+			this.liveConstructs.clear();
+			this.liveConstructor = null;
+			this.teardownHandlers.addHandled(this.teardown);
+			return;
+		}
+		
+		for (T construct : this.liveConstructs)
+		{
+			retireObject(this.liveConstructor, construct);
+		}
+		this.liveConstructs.clear();
+		
+		if (this.liveConstructor != null)
+		{
+			this.liveConstructor.reset();
+			this.liveConstructor = null;
 		}
 	}
-
-	@Override
-	public HandlingStateOperatorRelay getHandlingOperators() // TODO: Remove
+	
+	/**
+	 * @return The objects this creator currently has in the area, including the ones that 
+	 * are still being created
+	 */
+	List<T> getLiveConstructs()
 	{
-		return this.operators;
+		List<T> constructs = new ArrayList<>(this.liveConstructs);
+		if (this.spawning != null)
+			constructs.addAll(this.spawning.getConstructs());
+		return constructs;
+	}
+	
+	/**
+	 * @return A number that changes each time the creator's live objects change. Changes 
+	 * inside the objects are not included.
+	 * @see #getLiveConstructs()
+	 */
+	long getObjectVersion()
+	{
+		return this.objectVersion;
+	}
+	
+	/**
+	 * Makes the creator construct the given objects instead of the ones in its object file 
+	 * the next time the area starts. This is used when a {@link WorldSnapshot} is restored.
+	 * @param blueprint The blueprint of the restored objects
+	 * @param links The links between the restored objects (object ID, (link name, target 
+	 * ID)). Null if there are no links.
+	 * @return Can the objects be restored. False if the creator's constructor is not an 
+	 * {@link AreaObjectConstructor}.
+	 */
+	boolean restoreObjects(AreaObjectBlueprint blueprint, 
+			Map<String, Map<String, String>> links)
+	{
+		if (!(this.constructor instanceof AreaObjectConstructor))
+			return false;
+		
+		this.restoredBlueprint = blueprint;
+		this.restoredLinks = links;
+		
+		// The prepared objects would be out of date
+		coolDown();
+		if (this.retentionCache != null && this.retentionCache.forget(this))
+			releaseRetainedObjects();
+		
+		return true;
+	}
+	
+	/**
+	 * Kills the objects that were retained when the area ended. This is called by the 
+	 * {@link AreaRetentionCache} when the objects are evicted.
+	 */
+	void releaseRetainedObjects()
+	{
+		List<T> constructs = this.retainedConstructs;
+		AbstractConstructor<T> constructor = this.retainedConstructor;
+		this.retainedConstructs = null;
+		this.retainedConstructor = null;
+		
+		if (constructs != null)
+			discardObjects(constructor, constructs);
+	}
+	
+	private static <T extends Handled & Constructable<T>> void discardObjects( 
+			AbstractConstructor<T> constructor, List<T> constructs)
+	{
+		if (constructor == null)
+			return;
+		
+		if (constructs == null)
+			constructs = new ArrayList<>(constructor.getConstructs().values());
+		for (T construct : constructs)
+		{
+			retireObject(constructor, construct);
+		}
+		constructor.reset();
+	}
+	
+	private static <T extends Handled & Constructable<T>> void restoreLinks(List<T> constructs, 
+			Map<String, Map<String, String>> links)
+	{
+		if (links == null || links.isEmpty())
+			return;
+		
+		Map<String, T> constructsByID = new HashMap<>();
+		for (T construct : constructs)
+		{
+			constructsByID.put(construct.getID(), construct);
+		}
+		
+		for (T construct : constructs)
+		{
+			Map<String, String> constructLinks = links.get(construct.getID());
+			if (constructLinks == null)
+				continue;
+			
+			for (Map.Entry<String, String> link : constructLinks.entrySet())
+			{
+				T target = constructsByID.get(link.getValue());
+				if (target != null)
+					construct.setLink(link.getKey(), target);
+			}
+		}
+	}
+	
+	private static void retireObject(AbstractConstructor<?> constructor, Handled construct)
+	{
+		// Pooled objects are recycled instead of killed, if possible
+		if (constructor instanceof PooledAreaObjectConstructor && 
+				((PooledAreaObjectConstructor<?>) constructor).recycle(construct))
+			return;
+		
+		construct.getIsDeadStateOperator().setState(true);
+	}
+	
+	
+	// SUBCLASSES	-------------------------------------
+	
+	private abstract class IncrementalWork implements Actor
+	{
+		// ATTRIBUTES	-----------------------------
+		
+		private final StateOperator isDeadOperator = new StateOperator(false, true);
+		private final HandlingStateOperatorRelay handlingOperators = 
+				new HandlingStateOperatorRelay(new StateOperator(true, false));
+		private long workNanos = 0;
+		
+		
+		// ABSTRACT METHODS	-------------------------
+		
+		/**
+		 * Does the next piece of work
+		 * @return Is there still work left to do
+		 */
+		protected abstract boolean doNext();
+		
+		protected abstract void onFinished();
+		
+		
+		// IMPLEMENTED METHODS	---------------------
+		
+		@Override
+		public StateOperator getIsDeadStateOperator()
+		{
+			return this.isDeadOperator;
+		}
+		
+		@Override
+		public HandlingStateOperatorRelay getHandlingOperators()
+		{
+			return this.handlingOperators;
+		}
+		
+		@Override
+		public void act(double duration)
+		{
+			if (this.isDeadOperator.getState())
+				return;
+			
+			// At least one piece of work is done each frame so that the work always 
+			// progresses
+			long startTime = System.nanoTime();
+			long deadline = startTime + AreaObjectCreator.this.frameBudgetNanos;
+			boolean workLeft = doNext();
+			while (workLeft && System.nanoTime() < deadline)
+			{
+				workLeft = doNext();
+			}
+			this.workNanos += System.nanoTime() - startTime;
+			
+			if (!workLeft)
+				complete();
+		}
+		
+		
+		// OTHER METHODS	-------------------------
+		
+		public void finish()
+		{
+			if (this.isDeadOperator.getState())
+				return;
+			
+			long startTime = System.nanoTime();
+			while (doNext())
+			{
+				// Does the remaining work at once
+			}
+			this.workNanos += System.nanoTime() - startTime;
+			complete();
+		}
+		
+		public long getWorkNanos()
+		{
+			return this.workNanos;
+		}
+		
+		public void stop()
+		{
+			this.isDeadOperator.setState(true);
+		}
+		
+		private void complete()
+		{
+			this.isDeadOperator.setState(true);
+			onFinished();
+		}
+	}
+	
+	private class Spawning extends IncrementalWork
+	{
+		// ATTRIBUTES	-----------------------------
+		
+		private final AreaObjectConstructor<T>.Construction construction;
+		
+		
+		// CONSTRUCTOR	-----------------------------
+		
+		public Spawning(AreaObjectConstructor<T>.Construction construction)
+		{
+			this.construction = construction;
+		}
+		
+		
+		// IMPLEMENTED METHODS	---------------------
+		
+		@Override
+		protected boolean doNext()
+		{
+			this.construction.constructNext();
+			AreaObjectCreator.this.objectVersion ++;
+			return !this.construction.isFinished();
+		}
+		
+		@Override
+		protected void onFinished()
+		{
+			AreaObjectCreator.this.liveConstructs.addAll(getConstructs());
+			AreaObjectCreator.this.spawning = null;
+			setObjectsReady(getWorkNanos(), getConstructs().size());
+		}
+		
+		
+		// ACCESSORS	-----------------------------
+		
+		public List<T> getConstructs()
+		{
+			return this.construction.getConstructs();
+		}
+		
+		public double getProgress()
+		{
+			return this.construction.getProgress();
+		}
+	}
+	
+	private class Teardown extends IncrementalWork
+	{
+		// ATTRIBUTES	-----------------------------
+		
+		private final AbstractConstructor<T> constructor;
+		private final List<T> constructs;
+		private int nextIndex = 0;
+		
+		
+		// CONSTRUCTOR	-----------------------------
+		
+		public Teardown(AbstractConstructor<T> constructor, List<T> constructs)
+		{
+			this.constructor = constructor;
+			this.constructs = constructs;
+		}
+		
+		
+		// IMPLEMENTED METHODS	---------------------
+		
+		@Override
+		protected boolean doNext()
+		{
+			if (this.nextIndex < this.constructs.size())
+				retireObject(this.constructor, this.constructs.get(this.nextIndex ++));
+			return this.nextIndex < this.constructs.size();
+		}
+		
+		@Override
+		protected void onFinished()
+		{
+			if (this.constructor != null)
+				this.constructor.reset();
+			AreaObjectCreator.this.teardown = null;
+		}
+	}
+	
+	private class WarmUp implements Runnable
+	{
+		// ATTRIBUTES	-----------------------------
+		
+		private static final int WARMING = 0, READY = 1, USED = 2, ABANDONED = 3;
+		
+		private final AtomicInteger status = new AtomicInteger(WARMING);
+		private volatile AbstractConstructor<T> stagedConstructor;
+		private volatile List<T> stagedConstructs;
+		
+		
+		// IMPLEMENTED METHODS	---------------------
+		
+		@Override
+		public void run()
+		{
+			DetachedObjectConstructorProvider<T> provider = 
+					AreaObjectCreator.this.detachedConstructorProvider;
+			AbstractConstructor<T> staged = null;
+			List<T> constructs = null;
+			try
+			{
+				// The objects are placed to a separate relay until they are attached
+				staged = provider.getDetachedConstructor(AreaObjectCreator.this.area, 
+						new HandlerRelay());
+				constructs = constructObjects(staged);
+			}
+			catch (FileNotFoundException | RuntimeException e)
+			{
+				// The objects will be constructed normally when the area starts
+				this.status.set(ABANDONED);
+				discardObjects(staged, constructs);
+				return;
+			}
+			
+			this.stagedConstructor = staged;
+			this.stagedConstructs = constructs;
+			
+			// If the area already started, the objects are no longer needed
+			if (!this.status.compareAndSet(WARMING, READY))
+				discardObjects(staged, constructs);
+		}
+		
+		
+		// ACCESSORS	-----------------------------
+		
+		public AbstractConstructor<T> getConstructor()
+		{
+			return this.stagedConstructor;
+		}
+		
+		public List<T> getConstructs()
+		{
+			return this.stagedConstructs;
+		}
+		
+		public boolean isReady()
+		{
+			return this.status.get() == READY;
+		}
+		
+		public boolean isAbandoned()
+		{
+			return this.status.get() == ABANDONED;
+		}
+		
+		
+		// OTHER METHODS	-------------------------
+		
+		public boolean claim()
+		{
+			if (this.status.compareAndSet(READY, USED))
+				return true;
+			
+			// The warm up is too late
+			this.status.compareAndSet(WARMING, ABANDONED);
+			return false;
+		}
+		
+		public void abandon()
+		{
+			if (this.status.compareAndSet(READY, ABANDONED))
+				discardObjects(this.stagedConstructor, this.stagedConstructs);
+			else
+				this.status.compareAndSet(WARMING, ABANDONED);
+		}
 	}
 }
@@ -0,0 +1,19 @@
+package exodus_world;
+
+/**
+ * AreaObjectListeners are AreaListeners that are also interested in when the objects of an 
+ * area have been created. This is useful when the objects are created over multiple frames.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see AreaObjectCreator#setFrameBudget(double)
+ */
+public interface AreaObjectListener extends AreaListener
+{
+	/**
+	 * This method will be called once all the objects of an area have been created after the 
+	 * area started
+	 * @param area The area whose objects are ready
+	 */
+	public void onAreaObjectsReady(Area area);
+}
@@ -0,0 +1,196 @@
+package exodus_world;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AreaObjectPool stores dormant area objects so that they can be reused the next time an 
+ * area needs objects of the same class. The pool can be shared between multiple areas and 
+ * may be used from multiple threads.
+ * 
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see PooledAreaObjectConstructor
+ */
+public class AreaObjectPool
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final int maxObjectsPerClass;
+	private final ConcurrentMap<Class<?>, ObjectQueue> queues = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), 
+			releases = new AtomicLong(), rejections = new AtomicLong();
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new pool
+	 * @param maxObjectsPerClass How many dormant objects of a single class can be stored in 
+	 * the pool at once
+	 */
+	public AreaObjectPool(int maxObjectsPerClass)
+	{
+		this.maxObjectsPerClass = maxObjectsPerClass;
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return How many times a dormant object could be reused
+	 */
+	public long getHitCount()
+	{
+		return this.hits.get();
+	}
+	
+	/**
+	 * @return How many times an object was requested but there were no dormant objects of 
+	 * that class
+	 */
+	public long getMissCount()
+	{
+		return this.misses.get();
+	}
+	
+	/**
+	 * @return How many objects have been returned to the pool
+	 */
+	public long getReleaseCount()
+	{
+		return this.releases.get();
+	}
+	
+	/**
+	 * @return How many objects couldn't be returned to the pool because it was full
+	 */
+	public long getRejectionCount()
+	{
+		return this.rejections.get();
+	}
+	
+	/**
+	 * @return The portion of requests that could be served from the pool [0, 1]
+	 */
+	public double getHitRatio()
+	{
+		long hits = getHitCount();
+		long total = hits + getMissCount();
+		
+		if (total == 0)
+			return 0;
+		return hits / (double) total;
+	}
+	
+	/**
+	 * @return The amount of dormant objects currently in the pool
+	 */
+	public int getPooledObjectAmount()
+	{
+		int amount = 0;
+		for (ObjectQueue queue : this.queues.values())
+		{
+			amount += queue.size.get();
+		}
+		
+		return amount;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Takes a dormant object of the given class from the pool
+	 * @param objectClass The class of the object
+	 * @return A dormant object of the given class or null if there were no such objects in 
+	 * the pool
+	 */
+	public <T> T acquire(Class<T> objectClass)
+	{
+		ObjectQueue queue = this.queues.get(objectClass);
+		Recyclable object = null;
+		if (queue != null)
+		{
+			object = queue.objects.pollFirst();
+			if (object != null)
+				queue.size.decrementAndGet();
+		}
+		
+		if (object == null)
+		{
+			this.misses.incrementAndGet();
+			return null;
+		}
+		
+		this.hits.incrementAndGet();
+		return objectClass.cast(object);
+	}
+	
+	/**
+	 * Returns an object to the pool. The object is recycled before it is stored.
+	 * @param object The object that is no longer used
+	 * @return Was the object stored in the pool. False if the pool was full, in which case 
+	 * the object should be killed instead.
+	 */
+	public boolean release(Recyclable object)
+	{
+		ObjectQueue queue = getQueue(object.getClass());
+		if (queue.size.incrementAndGet() > this.maxObjectsPerClass)
+		{
+			queue.size.decrementAndGet();
+			this.rejections.incrementAndGet();
+			return false;
+		}
+		
+		object.recycle();
+		queue.objects.addFirst(object);
+		this.releases.incrementAndGet();
+		return true;
+	}
+	
+	/**
+	 * Removes all the dormant objects from the pool. The objects are killed.
+	 */
+	public void clear()
+	{
+		for (ObjectQueue queue : this.queues.values())
+		{
+			Recyclable object = queue.objects.pollFirst();
+			while (object != null)
+			{
+				queue.size.decrementAndGet();
+				object.getIsDeadStateOperator().setState(true);
+				object = queue.objects.pollFirst();
+			}
+		}
+	}
+	
+	private ObjectQueue getQueue(Class<?> objectClass)
+	{
+		ObjectQueue queue = this.queues.get(objectClass);
+		if (queue == null)
+		{
+			ObjectQueue newQueue = new ObjectQueue();
+			queue = this.queues.putIfAbsent(objectClass, newQueue);
+			if (queue == null)
+				queue = newQueue;
+		}
+		
+		return queue;
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	private static class ObjectQueue
+	{
+		// The most recently used objects are reused first
+		private final Deque<Recyclable> objects = new ConcurrentLinkedDeque<>();
+		private final AtomicInteger size = new AtomicInteger();
+	}
+}
@@ -1,7 +1,9 @@
 package exodus_world;
 
+import flow_recording.Constructable;
 import flow_recording.ObjectFormatException;
 import flow_recording.ObjectParser;
+import genesis_event.Handled;
 import genesis_event.HandlerRelay;
 
 /**
@@ -53,42 +55,7 @@ public class AreaParser implements ObjectParser<Area>
 		// objectName#phaseName
 		// OR objectName#phaseBankName#phaseName
 		// OR objectName#phaseBankName#phaseName#objectConstructorFileName
-		String[] arguments = s.split("#");
-		
-		if (arguments.length < 2)
-			throw new ObjectFormatException("Can't construct an area from string: " 
-					+ s + ". The string has too few arguments.");
-		
-		String phaseName = null;
-		String phaseBankName = null;
-		String objectConstructionFileName = null;
-		
-		if (arguments.length >= 3)
-		{
-			phaseBankName = arguments[1];
-			phaseName = arguments[2];
-		}
-		else
-			phaseName = arguments[1];
-		
-		if (arguments.length >= 4)
-			objectConstructionFileName = arguments[3];
-		
-		HandlerRelay handlers = null;
-		if (this.handlerConstructor != null)
-			handlers = this.handlerConstructor.constructRelay(arguments[0]);
-		else
-			handlers = new HandlerRelay();
-		
-		Area newArea = new Area(arguments[0], handlers, phaseBankName, phaseName, 
-				objectConstructionFileName);
-		
-		// Creates an objectCreator if possible
-		if (objectConstructionFileName != null && this.objectConstructorProvider != null)
-			new AreaObjectCreator<>(this.objectConstructorProvider.getConstructor(newArea), 
-					newArea);
-
-		return newArea;
+		return parseFromDescriptor(AreaDescriptor.parse(s));
 	}
 
 	@Override
@@ -98,16 +65,56 @@ public class AreaParser implements ObjectParser<Area>
 		// objectName#phaseName
 		// OR objectName#phaseBankName#phaseName
 		// OR objectName#phaseBankName#phaseName#objectConstructorFileName
-		String s = area.getName();
+		StringBuilder s = new StringBuilder(area.getName());
 		
 		if (area.getGamePhaseBankName() != null)
-			s += "#" + area.getGamePhaseBankName();
+			s.append('#').append(area.getGamePhaseBankName());
 		
-		s += "#" + area.getGamePhaseName();
+		s.append('#').append(area.getGamePhaseName());
 		
 		if (area.getOjectConstructorFileName() != null)
-			s += "#" + area.getOjectConstructorFileName();
+			s.append('#').append(area.getOjectConstructorFileName());
 		
-		return s;
+		return s.toString();
+	}
+	
+	
+	// OTHER METHODS	-----------------------
+	
+	/**
+	 * Creates a new area based on the given descriptor
+	 * @param descriptor The descriptor that describes the area
+	 * @return A new area
+	 */
+	public Area parseFromDescriptor(AreaDescriptor descriptor)
+	{
+		HandlerRelay handlers = null;
+		if (this.handlerConstructor != null)
+			handlers = this.handlerConstructor.constructRelay(descriptor.getName());
+		else
+			handlers = new HandlerRelay();
+		
+		Area newArea = new Area(descriptor.getName(), handlers, 
+				descriptor.getGamePhaseBankName(), descriptor.getGamePhaseName(), 
+				descriptor.getObjectConstructorFileName());
+		
+		// Creates an objectCreator if possible
+		if (descriptor.getObjectConstructorFileName() != null && 
+				this.objectConstructorProvider != null)
+			createObjectCreator(this.objectConstructorProvider, newArea);
+		
+		return newArea;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static <T extends Handled & Constructable<T>> void createObjectCreator( 
+			AreaObjectConstructorProvider<T> constructorProvider, Area area)
+	{
+		// Detached constructors allow the objects to be warmed up
+		if (constructorProvider instanceof DetachedObjectConstructorProvider)
+			new AreaObjectCreator<>((DetachedObjectConstructorProvider<T>) constructorProvider, 
+					area);
+		else
+			new AreaObjectCreator<>(constructorProvider.getConstructor(area), area);
 	}
 }
@@ -0,0 +1,201 @@
+package exodus_world;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AreaRetentionCache keeps the objects of recently ended areas alive so that they can be 
+ * reused if the area is started again. The objects stay dormant while the area is inactive. 
+ * The least recently ended areas are evicted once the budget is exceeded, in which case 
+ * their objects are killed (or recycled) normally.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see AreaObjectCreator#setRetentionCache(AreaRetentionCache)
+ */
+public class AreaRetentionCache
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final int maxObjects;
+	private final long maxEstimatedBytes, estimatedObjectSize;
+	private final LinkedHashMap<AreaObjectCreator<?>, Integer> retained = 
+			new LinkedHashMap<>(16, 0.75f, true);
+	private int retainedObjects = 0;
+	private long hits = 0, misses = 0, evictions = 0;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new cache
+	 * @param maxObjects How many objects may be kept in the cache at once
+	 * @param maxEstimatedBytes How many bytes (estimated) the objects in the cache may take 
+	 * at once
+	 * @param estimatedObjectSize An estimate of how many bytes a single object takes
+	 */
+	public AreaRetentionCache(int maxObjects, long maxEstimatedBytes, 
+			long estimatedObjectSize)
+	{
+		this.maxObjects = maxObjects;
+		this.maxEstimatedBytes = maxEstimatedBytes;
+		this.estimatedObjectSize = estimatedObjectSize;
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return How many objects are currently kept in the cache
+	 */
+	public synchronized int getRetainedObjectAmount()
+	{
+		return this.retainedObjects;
+	}
+	
+	/**
+	 * @return How many bytes (estimated) the objects in the cache currently take
+	 */
+	public synchronized long getEstimatedSize()
+	{
+		return this.retainedObjects * this.estimatedObjectSize;
+	}
+	
+	/**
+	 * @return How many times an area could reuse its retained objects
+	 */
+	public synchronized long getHitCount()
+	{
+		return this.hits;
+	}
+	
+	/**
+	 * @return How many times an area had to create its objects because they weren't 
+	 * retained
+	 */
+	public synchronized long getMissCount()
+	{
+		return this.misses;
+	}
+	
+	/**
+	 * @return How many times objects were evicted from the cache
+	 */
+	public synchronized long getEvictionCount()
+	{
+		return this.evictions;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Removes all the objects from the cache. The objects are killed or recycled.
+	 */
+	public void clear()
+	{
+		List<AreaObjectCreator<?>> evicted;
+		synchronized (this)
+		{
+			evicted = new ArrayList<>(this.retained.keySet());
+			this.retained.clear();
+			this.retainedObjects = 0;
+			this.evictions += evicted.size();
+		}
+		
+		releaseAll(evicted);
+	}
+	
+	/**
+	 * Keeps the objects of the creator in the cache. The least recently ended areas' objects 
+	 * are evicted until the new objects fit into the budget.
+	 * @param creator The creator whose objects are kept
+	 * @param objectAmount How many objects the creator has
+	 * @return Could the objects be kept. False only if the objects alone exceed the budget, 
+	 * in which case the objects should be killed.
+	 */
+	boolean retain(AreaObjectCreator<?> creator, int objectAmount)
+	{
+		List<AreaObjectCreator<?>> evicted = new ArrayList<>();
+		synchronized (this)
+		{
+			if (!fitsBudget(objectAmount))
+				return false;
+			
+			Integer previous = this.retained.put(creator, objectAmount);
+			if (previous != null)
+				this.retainedObjects -= previous;
+			this.retainedObjects += objectAmount;
+			
+			// Evicts the least recently ended areas until the budget is met
+			Iterator<Map.Entry<AreaObjectCreator<?>, Integer>> iterator = 
+					this.retained.entrySet().iterator();
+			while (!fitsBudget(this.retainedObjects) && iterator.hasNext())
+			{
+				Map.Entry<AreaObjectCreator<?>, Integer> entry = iterator.next();
+				if (entry.getKey() == creator)
+					continue;
+				
+				this.retainedObjects -= entry.getValue();
+				evicted.add(entry.getKey());
+				iterator.remove();
+			}
+			this.evictions += evicted.size();
+		}
+		
+		// The objects are released outside the lock
+		releaseAll(evicted);
+		return true;
+	}
+	
+	/**
+	 * Takes the creator's objects out of the cache so that they can be used again
+	 * @param creator The creator whose objects are requested
+	 * @return Were the creator's objects still in the cache
+	 */
+	synchronized boolean reclaim(AreaObjectCreator<?> creator)
+	{
+		Integer objectAmount = this.retained.remove(creator);
+		if (objectAmount == null)
+		{
+			this.misses ++;
+			return false;
+		}
+		
+		this.retainedObjects -= objectAmount;
+		this.hits ++;
+		return true;
+	}
+	
+	/**
+	 * Removes the creator from the cache without releasing its objects
+	 * @param creator The creator that should be removed
+	 * @return Were the creator's objects in the cache
+	 */
+	synchronized boolean forget(AreaObjectCreator<?> creator)
+	{
+		Integer objectAmount = this.retained.remove(creator);
+		if (objectAmount == null)
+			return false;
+		
+		this.retainedObjects -= objectAmount;
+		return true;
+	}
+	
+	private boolean fitsBudget(long objects)
+	{
+		return objects <= this.maxObjects && 
+				objects * this.estimatedObjectSize <= this.maxEstimatedBytes;
+	}
+	
+	private static void releaseAll(List<AreaObjectCreator<?>> creators)
+	{
+		for (AreaObjectCreator<?> creator : creators)
+		{
+			creator.releaseRetainedObjects();
+		}
+	}
+}
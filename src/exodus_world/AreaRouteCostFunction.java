@@ -0,0 +1,32 @@
+package exodus_world;
+
+/**
+ * AreaRouteCostFunctions define how expensive it is to travel along the routes of an 
+ * {@link AreaGraph}. They are used when searching for the cheapest routes between areas.
+ *  
+ * @author Mikko Hilpinen
+ * @param <T> The type of data contained within the edges of the graph
+ * @since 18.10.2026
+ */
+public interface AreaRouteCostFunction<T>
+{
+	/**
+	 * This method should tell how expensive it is to move along a route. The cost must not 
+	 * be negative and it should stay the same between calls, since the routes are cached.
+	 * @param from The area the route leaves from
+	 * @param to The area the route leads to
+	 * @param route The data of the edge that connects the areas
+	 * @return How expensive it is to move along the route
+	 */
+	public double getCost(Area from, Area to, T route);
+	
+	/**
+	 * This method should estimate how expensive it is to travel from an area to the 
+	 * destination. The estimate must never be larger than the actual cost. 0 may be 
+	 * returned if no better estimate is available.
+	 * @param from The area the travel starts from
+	 * @param destination The area that is being travelled to
+	 * @return An estimate of the cost of the cheapest route between the areas
+	 */
+	public double estimateCost(Area from, Area destination);
+}
@@ -0,0 +1,671 @@
+package exodus_world;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import flow_recording.ObjectFormatException;
+
+/**
+ * CompiledAreaFiles reads and writes the compiled (binary) versions of area manifests and 
+ * area object files. The compiled files are memory mapped when they are read so that 
+ * their contents don't need to be copied or parsed as text.<br>
+ * The files start with a header (magic number, version, file type, flags, payload length 
+ * and stored length), which is followed by the payload (deflated if the file is 
+ * compressed). The payload starts with a string table, which is followed by an indexed 
+ * body.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see AreaFileCompiler
+ */
+public class CompiledAreaFiles
+{
+	// ATTRIBUTES	--------------------------
+	
+	static final int MAGIC = 0xEA0DA41A;
+	static final byte VERSION = 2;
+	static final byte TYPE_MANIFEST = 1, TYPE_OBJECTS = 2, TYPE_SNAPSHOT = 3, 
+			TYPE_GRAPH = 4;
+	static final byte FLAG_COMPRESSED = 1;
+	static final int HEADER_SIZE = 16;
+	// The attribute and link amounts are written as unsigned shorts
+	static final int MAX_COUNT = 0xFFFF;
+	// Deflate can't compress data more than about 1:1032
+	private static final int MAX_COMPRESSION_RATIO = 1032;
+	
+	static final byte VALUE_STRING = 0, VALUE_INT = 1, VALUE_DOUBLE = 2, VALUE_BOOLEAN = 3;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private CompiledAreaFiles()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Checks whether a file is in the compiled format
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @return Is the file a compiled area file. False if the file doesn't exist.
+	 */
+	public static boolean isCompiled(String fileName)
+	{
+		try (DataInputStream input = new DataInputStream(new FileInputStream( 
+				"data/" + fileName)))
+		{
+			return input.readInt() == MAGIC;
+		}
+		catch (IOException e)
+		{
+			return false;
+		}
+	}
+	
+	/**
+	 * Opens a compiled area manifest
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @return The manifest read from the file
+	 * @throws IOException If the file couldn't be read or wasn't a compiled manifest
+	 * @throws ObjectFormatException If the file's header is malformed
+	 */
+	public static CompiledAreaManifest readManifest(String fileName) throws IOException, 
+			ObjectFormatException
+	{
+		return new CompiledAreaManifest(openPayload(fileName, TYPE_MANIFEST));
+	}
+	
+	/**
+	 * Reads a compiled area object file
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @return A blueprint read from the file
+	 * @throws IOException If the file couldn't be read or wasn't a compiled object file
+	 * @throws ObjectFormatException If the file's header is malformed
+	 */
+	public static AreaObjectBlueprint readBlueprint(String fileName) throws IOException, 
+			ObjectFormatException
+	{
+		ByteBuffer payload = openPayload(fileName, TYPE_OBJECTS);
+		StringTable strings = new StringTable(payload);
+		int bodyStart = strings.getEndPosition();
+		
+		int entryAmount = payload.getInt(bodyStart);
+		List<AreaObjectBlueprint.Entry> entries = new ArrayList<>(entryAmount);
+		for (int i = 0; i < entryAmount; i++)
+		{
+			int position = bodyStart + payload.getInt(bodyStart + 4 + 4 * i);
+			
+			String instruction = strings.get(payload.getInt(position));
+			String id = strings.get(payload.getInt(position + 4));
+			int attributeAmount = payload.getShort(position + 8) & MAX_COUNT;
+			position += 10;
+			
+			String[] names = new String[attributeAmount];
+			String[] values = new String[attributeAmount];
+			for (int attribute = 0; attribute < attributeAmount; attribute++)
+			{
+				names[attribute] = strings.get(payload.getInt(position));
+				byte type = payload.get(position + 4);
+				position += 5;
+				
+				switch (type)
+				{
+					case VALUE_INT:
+						values[attribute] = Integer.toString(payload.getInt(position));
+						position += 4;
+						break;
+					case VALUE_DOUBLE:
+						values[attribute] = Double.toString(payload.getDouble(position));
+						position += 8;
+						break;
+					case VALUE_BOOLEAN:
+						values[attribute] = Boolean.toString(payload.get(position) != 0);
+						position += 1;
+						break;
+					default:
+						values[attribute] = strings.get(payload.getInt(position));
+						position += 4;
+				}
+			}
+			
+			int linkAmount = payload.getShort(position) & MAX_COUNT;
+			position += 2;
+			String[] linkNames = new String[linkAmount];
+			String[] linkTargets = new String[linkAmount];
+			for (int link = 0; link < linkAmount; link++)
+			{
+				linkNames[link] = strings.get(payload.getInt(position));
+				linkTargets[link] = strings.get(payload.getInt(position + 4));
+				position += 8;
+			}
+			
+			entries.add(new AreaObjectBlueprint.Entry(instruction, id, names, values, 
+					linkNames, linkTargets));
+		}
+		
+		return new AreaObjectBlueprint(entries);
+	}
+	
+	/**
+	 * Writes a compiled area manifest
+	 * @param banks The areas in each area bank, in order
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @param compress Should the contents be compressed
+	 * @throws IOException If the writing failed
+	 */
+	public static void writeManifest(Map<String, List<AreaDescriptor>> banks, 
+			String fileName, boolean compress) throws IOException
+	{
+		StringTableBuilder strings = new StringTableBuilder();
+		ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+		DataOutputStream body = new DataOutputStream(bodyBytes);
+		
+		// Writes the bank index first. The areas are placed right after the index.
+		body.writeInt(banks.size());
+		int areasOffset = 4 + 12 * banks.size();
+		for (Map.Entry<String, List<AreaDescriptor>> bank : banks.entrySet())
+		{
+			body.writeInt(strings.indexOf(bank.getKey()));
+			body.writeInt(bank.getValue().size());
+			body.writeInt(areasOffset);
+			areasOffset += 16 * bank.getValue().size();
+		}
+		
+		for (List<AreaDescriptor> areas : banks.values())
+		{
+			for (AreaDescriptor area : areas)
+			{
+				body.writeInt(strings.indexOf(area.getName()));
+				body.writeInt(strings.indexOf(area.getGamePhaseBankName()));
+				body.writeInt(strings.indexOf(area.getGamePhaseName()));
+				body.writeInt(strings.indexOf(area.getObjectConstructorFileName()));
+			}
+		}
+		
+		body.flush();
+		writeFile(fileName, TYPE_MANIFEST, strings, bodyBytes.toByteArray(), compress);
+	}
+	
+	/**
+	 * Writes a compiled area object file
+	 * @param blueprint The blueprint that describes the objects
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @param compress Should the contents be compressed
+	 * @throws IOException If the writing failed
+	 * @throws ObjectFormatException If an object has more than {@value #MAX_COUNT} 
+	 * attributes or links
+	 */
+	public static void writeBlueprint(AreaObjectBlueprint blueprint, String fileName, 
+			boolean compress) throws IOException, ObjectFormatException
+	{
+		StringTableBuilder strings = new StringTableBuilder();
+		ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+		DataOutputStream entryOutput = new DataOutputStream(entryBytes);
+		List<AreaObjectBlueprint.Entry> entries = blueprint.getEntries();
+		int[] offsets = new int[entries.size()];
+		int indexSize = 4 + 4 * entries.size();
+		
+		for (int i = 0; i < entries.size(); i++)
+		{
+			AreaObjectBlueprint.Entry entry = entries.get(i);
+			offsets[i] = indexSize + entryOutput.size();
+			
+			entryOutput.writeInt(strings.indexOf(entry.getInstruction()));
+			entryOutput.writeInt(strings.indexOf(entry.getID()));
+			writeCount(entry.getAttributeAmount(), entryOutput, "Object " + entry.getID() + 
+					" in " + fileName + " has too many attributes");
+			for (int attribute = 0; attribute < entry.getAttributeAmount(); attribute++)
+			{
+				entryOutput.writeInt(strings.indexOf(entry.getAttributeName(attribute)));
+				writeValue(entry.getAttributeValue(attribute), entryOutput, strings);
+			}
+			writeCount(entry.getLinkAmount(), entryOutput, "Object " + entry.getID() + 
+					" in " + fileName + " has too many links");
+			for (int link = 0; link < entry.getLinkAmount(); link++)
+			{
+				entryOutput.writeInt(strings.indexOf(entry.getLinkName(link)));
+				entryOutput.writeInt(strings.indexOf(entry.getLinkTarget(link)));
+			}
+		}
+		entryOutput.flush();
+		
+		// The entry index is placed before the entries
+		ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(indexSize + 
+				entryBytes.size());
+		DataOutputStream body = new DataOutputStream(bodyBytes);
+		body.writeInt(entries.size());
+		for (int offset : offsets)
+		{
+			body.writeInt(offset);
+		}
+		entryBytes.writeTo(body);
+		body.flush();
+		
+		writeFile(fileName, TYPE_OBJECTS, strings, bodyBytes.toByteArray(), compress);
+	}
+	
+	/**
+	 * Writes an attribute value. Numbers and booleans are written in binary form.
+	 * @param value The value that is written
+	 * @param output The stream the value is written to
+	 * @param strings The string table used for the string values
+	 * @throws IOException If the writing failed
+	 */
+	static void writeValue(String value, DataOutputStream output, 
+			StringTableBuilder strings) throws IOException
+	{
+		if ("true".equals(value) || "false".equals(value))
+		{
+			output.writeByte(VALUE_BOOLEAN);
+			output.writeByte("true".equals(value) ? 1 : 0);
+			return;
+		}
+		
+		// Numbers are only typed if they can be written back exactly the same way
+		if (value != null && !value.isEmpty() && value.length() < 25)
+		{
+			try
+			{
+				if (value.indexOf('.') < 0)
+				{
+					int intValue = Integer.parseInt(value);
+					if (Integer.toString(intValue).equals(value))
+					{
+						output.writeByte(VALUE_INT);
+						output.writeInt(intValue);
+						return;
+					}
+				}
+				else
+				{
+					double doubleValue = Double.parseDouble(value);
+					if (Double.toString(doubleValue).equals(value))
+					{
+						output.writeByte(VALUE_DOUBLE);
+						output.writeDouble(doubleValue);
+						return;
+					}
+				}
+			}
+			catch (NumberFormatException e)
+			{
+				// The value is written as a string
+			}
+		}
+		
+		output.writeByte(VALUE_STRING);
+		output.writeInt(strings.indexOf(value));
+	}
+	
+	/**
+	 * Reads an attribute value written with 
+	 * {@link #writeValue(String, DataOutputStream, StringTableBuilder)}
+	 * @param input The input the value is read from
+	 * @param strings The string table used for the string values
+	 * @return The value that was read
+	 * @throws IOException If the reading failed
+	 */
+	static String readValue(DataInput input, StringTable strings) throws IOException
+	{
+		switch (input.readByte())
+		{
+			case VALUE_INT: return Integer.toString(input.readInt());
+			case VALUE_DOUBLE: return Double.toString(input.readDouble());
+			case VALUE_BOOLEAN: return Boolean.toString(input.readByte() != 0);
+			default: return strings.get(input.readInt());
+		}
+	}
+	
+	/**
+	 * Opens a stream that reads the body of a compiled file
+	 * @param payload The payload of the file
+	 * @param strings The string table at the start of the payload
+	 * @return A stream that reads the body that follows the string table
+	 */
+	static DataInputStream openBody(ByteBuffer payload, StringTable strings)
+	{
+		ByteBuffer body = payload.duplicate();
+		body.position(strings.getEndPosition());
+		return new DataInputStream(new ByteBufferInputStream(body));
+	}
+	
+	/**
+	 * Writes a compiled file
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @param type The type of the file
+	 * @param strings The string table that is written before the body
+	 * @param body The body of the file
+	 * @param compress Should the contents be compressed
+	 * @throws IOException If the writing failed
+	 */
+	static void writeFile(String fileName, byte type, StringTableBuilder strings, 
+			byte[] body, boolean compress) throws IOException
+	{
+		ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(payloadBytes);
+		strings.writeTo(payload);
+		payload.write(body);
+		payload.flush();
+		
+		byte[] uncompressed = payloadBytes.toByteArray();
+		byte[] stored = uncompressed;
+		if (compress)
+			stored = deflate(uncompressed);
+		
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream( 
+				new FileOutputStream("data/" + fileName))))
+		{
+			output.writeInt(MAGIC);
+			output.writeByte(VERSION);
+			output.writeByte(type);
+			output.writeByte(compress ? FLAG_COMPRESSED : 0);
+			output.writeByte(0);
+			output.writeInt(uncompressed.length);
+			output.writeInt(stored.length);
+			output.write(stored);
+		}
+	}
+	
+	/**
+	 * Opens the payload of a compiled file
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @param expectedType The type the file should have
+	 * @return The payload of the file, starting with the string table
+	 * @throws IOException If the file couldn't be read or was of the wrong type
+	 * @throws ObjectFormatException If the lengths in the file's header don't match the 
+	 * file
+	 */
+	static ByteBuffer openPayload(String fileName, byte expectedType) 
+			throws IOException, ObjectFormatException
+	{
+		MappedByteBuffer mapped;
+		try (FileChannel channel = FileChannel.open(Paths.get("data", fileName), 
+				StandardOpenOption.READ))
+		{
+			// The mapping stays valid after the channel has been closed
+			mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		
+		if (mapped.limit() < HEADER_SIZE || mapped.getInt(0) != MAGIC)
+			throw new IOException(fileName + " is not a compiled area file");
+		if (mapped.get(4) != VERSION)
+			throw new IOException(fileName + " uses an unsupported version " + mapped.get(4));
+		if (mapped.get(5) != expectedType)
+			throw new IOException(fileName + " is of the wrong type");
+		
+		int payloadLength = mapped.getInt(8);
+		int storedLength = mapped.getInt(12);
+		boolean compressed = (mapped.get(6) & FLAG_COMPRESSED) != 0;
+		
+		// The lengths are checked before anything is allocated based on them
+		if (storedLength < 0 || storedLength > mapped.limit() - HEADER_SIZE)
+			throw new ObjectFormatException(fileName + " should contain " + storedLength + 
+					" bytes after the header but contains " + (mapped.limit() - HEADER_SIZE));
+		if (payloadLength < 0 || (!compressed && payloadLength != storedLength) || 
+				(compressed && payloadLength > 
+				(long) storedLength * MAX_COMPRESSION_RATIO + 64))
+			throw new ObjectFormatException(fileName + " has an invalid payload length " + 
+					payloadLength + " for " + storedLength + " stored bytes");
+		
+		mapped.position(HEADER_SIZE);
+		mapped.limit(HEADER_SIZE + storedLength);
+		ByteBuffer stored = mapped.slice();
+		
+		if (!compressed)
+			return stored;
+		return inflate(stored, payloadLength);
+	}
+	
+	private static void writeCount(int count, DataOutputStream output, String errorMessage) 
+			throws IOException, ObjectFormatException
+	{
+		if (count > MAX_COUNT)
+			throw new ObjectFormatException(errorMessage + " (" + count + ", at most " + 
+					MAX_COUNT + " are allowed)");
+		output.writeShort(count);
+	}
+	
+	private static byte[] deflate(byte[] data)
+	{
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		deflater.setInput(data);
+		deflater.finish();
+		
+		ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 2 + 64);
+		byte[] buffer = new byte[8192];
+		while (!deflater.finished())
+		{
+			int length = deflater.deflate(buffer);
+			output.write(buffer, 0, length);
+		}
+		deflater.end();
+		
+		return output.toByteArray();
+	}
+	
+	private static ByteBuffer inflate(ByteBuffer stored, int payloadLength) 
+			throws IOException
+	{
+		byte[] input = new byte[stored.remaining()];
+		stored.get(input);
+		
+		Inflater inflater = new Inflater();
+		inflater.setInput(input);
+		byte[] output = new byte[payloadLength];
+		try
+		{
+			int length = 0;
+			while (length < payloadLength && !inflater.finished())
+			{
+				int inflated = inflater.inflate(output, length, payloadLength - length);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+					throw new IOException("Compressed area file is truncated");
+				length += inflated;
+			}
+		}
+		catch (DataFormatException e)
+		{
+			throw new IOException("Compressed area file is corrupted", e);
+		}
+		finally
+		{
+			inflater.end();
+		}
+		
+		return ByteBuffer.wrap(output);
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	/**
+	 * StringTable reads strings from the string table of a compiled file. The strings are 
+	 * only decoded when they are first requested.
+	 * @author Mikko Hilpinen
+	 * @since 18.10.2026
+	 */
+	static class StringTable
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final ByteBuffer buffer;
+		private final int dataStart, endPosition;
+		private final String[] strings;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public StringTable(ByteBuffer payload)
+		{
+			this.buffer = payload;
+			int amount = payload.getInt(0);
+			int dataLength = payload.getInt(4);
+			this.dataStart = 8 + 4 * amount;
+			this.endPosition = this.dataStart + dataLength;
+			this.strings = new String[amount];
+		}
+		
+		
+		// ACCESSORS	----------------------
+		
+		/**
+		 * @return The position in the payload where the string table ends
+		 */
+		public int getEndPosition()
+		{
+			return this.endPosition;
+		}
+		
+		
+		// OTHER METHODS	------------------
+		
+		/**
+		 * @param index The index of the string
+		 * @return The string at the given index. Null if the index is negative.
+		 */
+		public String get(int index)
+		{
+			if (index < 0)
+				return null;
+			
+			String s = this.strings[index];
+			if (s == null)
+			{
+				int position = this.dataStart + this.buffer.getInt(8 + 4 * index);
+				byte[] bytes = new byte[this.buffer.getInt(position)];
+				ByteBuffer source = this.buffer.duplicate();
+				source.position(position + 4);
+				source.get(bytes);
+				
+				s = new String(bytes, StandardCharsets.UTF_8);
+				this.strings[index] = s;
+			}
+			
+			return s;
+		}
+	}
+	
+	private static class ByteBufferInputStream extends InputStream
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final ByteBuffer buffer;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public ByteBufferInputStream(ByteBuffer buffer)
+		{
+			this.buffer = buffer;
+		}
+		
+		
+		// IMPLEMENTED METHODS	--------------
+		
+		@Override
+		public int read()
+		{
+			if (!this.buffer.hasRemaining())
+				return -1;
+			return this.buffer.get() & 0xFF;
+		}
+		
+		@Override
+		public int read(byte[] bytes, int offset, int length)
+		{
+			if (!this.buffer.hasRemaining())
+				return -1;
+			
+			int amount = Math.min(length, this.buffer.remaining());
+			this.buffer.get(bytes, offset, amount);
+			return amount;
+		}
+		
+		@Override
+		public long skip(long amount)
+		{
+			int skipped = (int) Math.max(0, Math.min(amount, this.buffer.remaining()));
+			this.buffer.position(this.buffer.position() + skipped);
+			return skipped;
+		}
+	}
+	
+	/**
+	 * StringTableBuilder collects the strings written into a compiled file. Each string is 
+	 * only stored once.
+	 * @author Mikko Hilpinen
+	 * @since 18.10.2026
+	 */
+	static class StringTableBuilder
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final Map<String, Integer> indices = new LinkedHashMap<>();
+		
+		
+		// OTHER METHODS	------------------
+		
+		public int indexOf(String s)
+		{
+			if (s == null)
+				return -1;
+			
+			Integer index = this.indices.get(s);
+			if (index == null)
+			{
+				index = this.indices.size();
+				this.indices.put(s, index);
+			}
+			
+			return index;
+		}
+		
+		public void writeTo(DataOutputStream output) throws IOException
+		{
+			List<byte[]> encoded = new ArrayList<>(this.indices.size());
+			int dataLength = 0;
+			for (String s : this.indices.keySet())
+			{
+				byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+				encoded.add(bytes);
+				dataLength += 4 + bytes.length;
+			}
+			
+			output.writeInt(encoded.size());
+			output.writeInt(dataLength);
+			int offset = 0;
+			for (byte[] bytes : encoded)
+			{
+				output.writeInt(offset);
+				offset += 4 + bytes.length;
+			}
+			for (byte[] bytes : encoded)
+			{
+				output.writeInt(bytes.length);
+				output.write(bytes);
+			}
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package exodus_world;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CompiledAreaManifest provides access to the area descriptors stored in a compiled area 
+ * manifest. The descriptors of a bank are only decoded when they are requested.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see CompiledAreaFiles#readManifest(String)
+ */
+public class CompiledAreaManifest
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final ByteBuffer payload;
+	private final CompiledAreaFiles.StringTable strings;
+	private final int bodyStart;
+	private final Map<String, BankRecord> banks;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new manifest
+	 * @param payload The (uncompressed) payload of a compiled manifest file
+	 */
+	CompiledAreaManifest(ByteBuffer payload)
+	{
+		this.payload = payload;
+		this.strings = new CompiledAreaFiles.StringTable(payload);
+		this.bodyStart = this.strings.getEndPosition();
+		
+		int bankAmount = payload.getInt(this.bodyStart);
+		Map<String, BankRecord> banks = new LinkedHashMap<>(bankAmount * 2);
+		for (int i = 0; i < bankAmount; i++)
+		{
+			int position = this.bodyStart + 4 + 12 * i;
+			banks.put(this.strings.get(payload.getInt(position)), new BankRecord( 
+					payload.getInt(position + 4), payload.getInt(position + 8)));
+		}
+		this.banks = Collections.unmodifiableMap(banks);
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return The names of the area banks in the manifest, in order
+	 */
+	public List<String> getBankNames()
+	{
+		return new ArrayList<>(this.banks.keySet());
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * @param bankName The name of an area bank
+	 * @return Does the manifest contain the area bank
+	 */
+	public boolean containsBank(String bankName)
+	{
+		return this.banks.containsKey(bankName);
+	}
+	
+	/**
+	 * @param bankName The name of an area bank
+	 * @return How many areas there are in the bank. 0 if there is no such bank.
+	 */
+	public int getAreaAmount(String bankName)
+	{
+		BankRecord bank = this.banks.get(bankName);
+		if (bank == null)
+			return 0;
+		return bank.areaAmount;
+	}
+	
+	/**
+	 * Decodes the descriptors of the areas in a bank
+	 * @param bankName The name of the area bank
+	 * @return The descriptors of the areas in the bank, in order. Empty if there is no such 
+	 * bank.
+	 */
+	public List<AreaDescriptor> getAreas(String bankName)
+	{
+		BankRecord bank = this.banks.get(bankName);
+		if (bank == null)
+			return new ArrayList<>();
+		
+		List<AreaDescriptor> areas = new ArrayList<>(bank.areaAmount);
+		int position = this.bodyStart + bank.offset;
+		for (int i = 0; i < bank.areaAmount; i++)
+		{
+			areas.add(new AreaDescriptor(this.strings.get(this.payload.getInt(position)), 
+					this.strings.get(this.payload.getInt(position + 4)), 
+					this.strings.get(this.payload.getInt(position + 8)), 
+					this.strings.get(this.payload.getInt(position + 12))));
+			position += 16;
+		}
+		
+		return areas;
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	private static class BankRecord
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final int areaAmount, offset;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public BankRecord(int areaAmount, int offset)
+		{
+			this.areaAmount = areaAmount;
+			this.offset = offset;
+		}
+	}
+}
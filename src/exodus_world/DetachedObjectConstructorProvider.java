@@ -0,0 +1,33 @@
+package exodus_world;
+
+import flow_recording.AbstractConstructor;
+import flow_recording.Constructable;
+import genesis_event.Handled;
+import genesis_event.HandlerRelay;
+
+/**
+ * These providers are able to provide constructors that place the constructed objects to 
+ * a separate set of handlers instead of the area's own. This allows the objects to be 
+ * constructed in advance (for example in a background thread) while the area is still 
+ * inactive.
+ * 
+ * @author Mikko Hilpinen
+ * @param <T> The type of object constructed by the constructors provided by this object
+ * @since 18.10.2026
+ * @see AreaObjectCreator#warmUp(java.util.concurrent.Executor)
+ */
+public interface DetachedObjectConstructorProvider<T extends Handled & Constructable<T>> 
+		extends AreaObjectConstructorProvider<T>
+{
+	/**
+	 * This method should provide an object constructor that places the constructed objects 
+	 * to the given handlers instead of the area's handlers. The constructor may be used in 
+	 * a background thread.
+	 * @param targetArea The area the objects will be placed to once they are attached
+	 * @param stagingHandlers The handlers the objects should be placed to until they are 
+	 * attached to the area
+	 * @return An objectConstructor that can be used for constructing detached objects
+	 */
+	public AbstractConstructor<T> getDetachedConstructor(Area targetArea, 
+			HandlerRelay stagingHandlers);
+}
@@ -0,0 +1,34 @@
+package exodus_world;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * EdgeDataCodecs write the data of {@link AreaGraph} edges in binary form and read it back. 
+ * They are used when the graphs are saved.
+ *   
+ * @author Mikko Hilpinen
+ * @param <T> The type of data contained within the edges of the graph
+ * @since 18.10.2026
+ * @see AreaGraphFiles
+ * @see WorldSnapshot
+ */
+public interface EdgeDataCodec<T>
+{
+	/**
+	 * This method should write the edge data
+	 * @param data The data of an edge
+	 * @param output The output the data is written to
+	 * @throws IOException If the writing failed
+	 */
+	public void write(T data, DataOutput output) throws IOException;
+	
+	/**
+	 * This method should read edge data written with {@link #write(Object, DataOutput)}
+	 * @param input The input the data is read from
+	 * @return The data of an edge
+	 * @throws IOException If the reading failed
+	 */
+	public T read(DataInput input) throws IOException;
+}
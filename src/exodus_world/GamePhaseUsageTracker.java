@@ -0,0 +1,120 @@
+package exodus_world;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import arc_resource.GamePhase;
+import arc_resource.ResourceActivator;
+
+/**
+ * GamePhaseUsageTracker keeps count of the references areas hold to each gamePhase. A phase
+ * is started when it gains its first reference and ended when its last reference is
+ * released. The references may be changed from multiple threads, but only one phase is 
+ * started or ended at a time.
+ *
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class GamePhaseUsageTracker
+{
+	// ATTRIBUTES	--------------------------
+	
+	private static final Map<GamePhase, UsageCounter> counters = new HashMap<>();
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private GamePhaseUsageTracker()
+	{
+		// The constructor is hidden since the interface is static
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Adds a new reference to the given gamePhase. If this is the first reference, the phase
+	 * is started.
+	 * @param phase The phase that is being used
+	 * @param endOtherPhases Should the resources of other phases be deactivated when the
+	 * phase is started. If true, the phase is started even if it was already in use.
+	 * @see #endOtherPhases(GamePhase)
+	 */
+	public static synchronized void acquire(GamePhase phase, boolean endOtherPhases)
+	{
+		UsageCounter counter = counters.get(phase);
+		if (counter == null)
+		{
+			counter = new UsageCounter();
+			counters.put(phase, counter);
+		}
+		
+		counter.references ++;
+		
+		if (endOtherPhases)
+			endOtherPhases(phase);
+		else if (counter.references == 1)
+			ResourceActivator.startPhase(phase, false);
+	}
+	
+	/**
+	 * Starts the given gamePhase and deactivates the resources of the other phases. Since 
+	 * the phases that are still referenced must stay active, the other resources are only 
+	 * deactivated when no other phase is referenced. Otherwise the phase is simply started.
+	 * @param phase The phase that should stay active
+	 */
+	public static synchronized void endOtherPhases(GamePhase phase)
+	{
+		boolean othersInUse = false;
+		for (GamePhase other : counters.keySet())
+		{
+			if (!other.equals(phase))
+			{
+				othersInUse = true;
+				break;
+			}
+		}
+		
+		ResourceActivator.startPhase(phase, !othersInUse);
+	}
+	
+	/**
+	 * Releases a reference to the given gamePhase. If it was the last reference, the phase
+	 * is ended.
+	 * @param phase The phase that is no longer used
+	 */
+	public static synchronized void release(GamePhase phase)
+	{
+		UsageCounter counter = counters.get(phase);
+		if (counter == null)
+			return;
+		
+		counter.references --;
+		
+		if (counter.references <= 0)
+		{
+			counters.remove(phase);
+			ResourceActivator.endPhase(phase);
+		}
+	}
+	
+	/**
+	 * @param phase A gamePhase
+	 * @return How many references there currently are to the phase
+	 */
+	public static synchronized int getReferenceCount(GamePhase phase)
+	{
+		UsageCounter counter = counters.get(phase);
+		if (counter == null)
+			return 0;
+		return counter.references;
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	private static class UsageCounter
+	{
+		private int references = 0;
+	}
+}
@@ -0,0 +1,300 @@
+package exodus_world;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import genesis_event.Actor;
+import genesis_event.ActorHandler;
+import genesis_event.HandlerRelay;
+import genesis_util.HandlingStateOperatorRelay;
+import genesis_util.StateOperator;
+
+/**
+ * ParallelAreaSimulator runs the actors of each active area as a separate task on a 
+ * worker pool. The simulator is used as the handlerConstructor of the areas, adding an 
+ * actorHandler to each relay created by the wrapped constructor. Those actorHandlers are 
+ * not connected to the window's handlers but are informed by the simulator instead. Each 
+ * step waits until all the areas have finished acting.<br>
+ * The areas are always handled in the same order and each area's actors are informed on 
+ * a single thread, so the results are reproducible as long as the actors only interact 
+ * with objects in their own area. The actors should be added to the area relays and not 
+ * to the window's handlers. The simulator forgets the actorHandlers of the relays that are 
+ * no longer used, so areas of deactivated banks don't stay in memory.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class ParallelAreaSimulator implements AreaHandlerConstructor, Actor
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final AreaHandlerConstructor relayConstructor;
+	private final ForkJoinPool pool;
+	// The relays keep their actorHandlers alive, so the map doesn't keep either in memory
+	private final Map<HandlerRelay, WeakReference<ActorHandler>> actorHandlers = 
+			Collections.synchronizedMap(new WeakHashMap<HandlerRelay, 
+			WeakReference<ActorHandler>>());
+	private final AtomicLong handlersVersion = new AtomicLong();
+	private final StateOperator isDeadOperator = new StateOperator(false, true);
+	private final HandlingStateOperatorRelay handlingOperators = 
+			new HandlingStateOperatorRelay(new StateOperator(true, true));
+	
+	// The ordered tasks are only rebuilt when the active areas change
+	private List<ActTask> tasks = new ArrayList<>();
+	private long tasksVersion = -1;
+	private long tasksHandlersVersion = -1;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new simulator. The simulator is added to the given handlers so that it is 
+	 * informed about the steps.
+	 * @param relayConstructor The constructor that creates the rest of the area handlers. 
+	 * The created relays shouldn't contain actorHandlers.
+	 * @param pool The pool the areas are handled in
+	 * @param superHandlers The handlers that inform the simulator about the steps (the 
+	 * window's handlers, for example)
+	 */
+	public ParallelAreaSimulator(AreaHandlerConstructor relayConstructor, ForkJoinPool pool, 
+			HandlerRelay superHandlers)
+	{
+		this.relayConstructor = relayConstructor;
+		this.pool = pool;
+		
+		if (superHandlers != null)
+			superHandlers.addHandled(this);
+	}
+	
+	
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	public HandlerRelay constructRelay(String areaName)
+	{
+		// Relays may be constructed in parallel when the areas are initialized
+		HandlerRelay relay = this.relayConstructor.constructRelay(areaName);
+		ActorHandler actorHandler = new ActorHandler(false, null);
+		relay.addHandler(actorHandler);
+		this.actorHandlers.put(relay, new WeakReference<>(actorHandler));
+		this.handlersVersion.incrementAndGet();
+		
+		return relay;
+	}
+	
+	@Override
+	public StateOperator getIsDeadStateOperator()
+	{
+		return this.isDeadOperator;
+	}
+	
+	@Override
+	public HandlingStateOperatorRelay getHandlingOperators()
+	{
+		return this.handlingOperators;
+	}
+	
+	@Override
+	public void act(double duration)
+	{
+		if (this.isDeadOperator.getState())
+			return;
+		
+		if (this.tasksVersion != ActiveAreaRegistry.getVersion() || 
+				this.tasksHandlersVersion != this.handlersVersion.get())
+			updateTasks();
+		
+		for (ActTask task : this.tasks)
+		{
+			task.duration = duration;
+		}
+		invokeAll(this.tasks, this.pool);
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return The pool the areas are handled in
+	 */
+	public ForkJoinPool getPool()
+	{
+		return this.pool;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Finds the actorHandler the simulator added to the area's handlers
+	 * @param area An area
+	 * @return The actorHandler that informs the area's actors. Null if the area's handlers 
+	 * weren't created by this simulator.
+	 */
+	public ActorHandler getActorHandler(Area area)
+	{
+		WeakReference<ActorHandler> handler = this.actorHandlers.get(area.getHandlers());
+		if (handler == null)
+			return null;
+		return handler.get();
+	}
+	
+	/**
+	 * Stops the simulator. The areas' actors won't be informed after this.
+	 */
+	public void stop()
+	{
+		this.isDeadOperator.setState(true);
+	}
+	
+	/**
+	 * Informs each actor as a separate task and waits until all of them have finished. 
+	 * If any of the actors fails, the exception of the first failed actor (in the given 
+	 * order) is thrown after all of the actors have finished.
+	 * @param actors The actors that are informed
+	 * @param duration The duration of the step
+	 * @param pool The pool the actors are informed in. If null, the actors are informed 
+	 * in order on the calling thread.
+	 * @throws IllegalStateException If the calling thread was interrupted before the actors 
+	 * finished. The unfinished actors are cancelled in that case.
+	 */
+	public static void actInParallel(Collection<? extends Actor> actors, double duration, 
+			ForkJoinPool pool)
+	{
+		List<ActTask> tasks = new ArrayList<>(actors.size());
+		for (Actor actor : actors)
+		{
+			tasks.add(new ActTask(actor, duration));
+		}
+		
+		invokeAll(tasks, pool);
+	}
+	
+	private void updateTasks()
+	{
+		this.tasksVersion = ActiveAreaRegistry.getVersion();
+		this.tasksHandlersVersion = this.handlersVersion.get();
+		
+		// Only the active areas are simulated. Since the registry keeps them in memory, 
+		// forgotten relays don't affect the tasks.
+		List<Area> areas = new ArrayList<>(ActiveAreaRegistry.getActiveAreas());
+		Collections.sort(areas, new AreaOrder());
+		List<ActTask> tasks = new ArrayList<>(areas.size());
+		for (Area area : areas)
+		{
+			// Areas that weren't built by this simulator are skipped
+			ActorHandler handler = getActorHandler(area);
+			if (handler != null)
+				tasks.add(new ActTask(handler, 0));
+		}
+		
+		this.tasks = tasks;
+	}
+	
+	private static void invokeAll(List<ActTask> tasks, ForkJoinPool pool)
+	{
+		// A single actor isn't worth the hand-off
+		if (pool == null || tasks.size() < 2)
+		{
+			for (ActTask task : tasks)
+			{
+				task.call();
+			}
+			return;
+		}
+		
+		List<Future<Void>> futures = null;
+		try
+		{
+			// InvokeAll works as the barrier at the end of the step
+			futures = pool.invokeAll(tasks);
+			for (Future<Void> future : futures)
+			{
+				future.get();
+			}
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw new IllegalStateException("Area simulation failed", e.getCause());
+		}
+		catch (InterruptedException e)
+		{
+			// The step ends here, so the unfinished tasks are cancelled
+			if (futures != null)
+			{
+				for (Future<Void> future : futures)
+				{
+					future.cancel(true);
+				}
+			}
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Area simulation was interrupted", e);
+		}
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	private static class ActTask implements Callable<Void>
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final Actor actor;
+		private double duration;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public ActTask(Actor actor, double duration)
+		{
+			this.actor = actor;
+			this.duration = duration;
+		}
+		
+		
+		// IMPLEMENTED METHODS	--------------
+		
+		@Override
+		public Void call()
+		{
+			this.actor.act(this.duration);
+			return null;
+		}
+	}
+	
+	private static class AreaOrder implements Comparator<Area>
+	{
+		@Override
+		public int compare(Area first, Area second)
+		{
+			int result = compareNames(first.getAreaBankName(), second.getAreaBankName());
+			if (result != 0)
+				return result;
+			return compareNames(first.getName(), second.getName());
+		}
+		
+		private static int compareNames(String first, String second)
+		{
+			if (first == null)
+				return second == null ? 0 : -1;
+			if (second == null)
+				return 1;
+			return first.compareTo(second);
+		}
+	}
+}
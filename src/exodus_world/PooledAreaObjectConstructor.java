@@ -0,0 +1,99 @@
+package exodus_world;
+
+import flow_recording.Constructable;
+import genesis_event.Handled;
+import genesis_event.HandlerRelay;
+
+/**
+ * PooledAreaObjectConstructors reuse dormant objects from an {@link AreaObjectPool} 
+ * whenever possible and only construct new objects when there are none available. 
+ * Subclasses should be returned from {@link AreaObjectConstructorProvider}s so that the 
+ * {@link AreaObjectCreator}s return the objects to the pool when their area ends.
+ * 
+ * @author Mikko Hilpinen
+ * @param <T> The type of object constructed by this constructor
+ * @since 18.10.2026
+ */
+public abstract class PooledAreaObjectConstructor<T extends Recyclable & Constructable<T>> 
+		extends AreaObjectConstructor<T>
+{
+	// ATTRIBUTES	--------------------------
+	
+	private AreaObjectPool pool;
+	private HandlerRelay targetHandlers;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new constructor
+	 * @param pool The pool the objects are taken from and returned to
+	 * @param targetHandlers The handlers the constructed objects are placed to
+	 */
+	public PooledAreaObjectConstructor(AreaObjectPool pool, HandlerRelay targetHandlers)
+	{
+		this.pool = pool;
+		this.targetHandlers = targetHandlers;
+	}
+	
+	
+	// ABSTRACT METHODS	----------------------
+	
+	/**
+	 * This method should tell which class of object would be constructed for the given 
+	 * instruction
+	 * @param instruction The instruction used when creating the object
+	 * @return The class of the object that would be created
+	 */
+	protected abstract Class<? extends T> getConstructableClass(String instruction);
+	
+	/**
+	 * This method should create a new object. It is only called when there are no dormant 
+	 * objects available in the pool.
+	 * @param instruction The instruction used when creating the object
+	 * @param targetHandlers The handlers the object should be placed to
+	 * @return A new object
+	 */
+	protected abstract T createNewConstructable(String instruction, 
+			HandlerRelay targetHandlers);
+	
+	
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	protected T createConstructable(String instruction)
+	{
+		T pooled = this.pool.acquire(getConstructableClass(instruction));
+		if (pooled == null)
+			return createNewConstructable(instruction, this.targetHandlers);
+		
+		pooled.reinitialize(this.targetHandlers);
+		return pooled;
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return The pool used by this constructor
+	 */
+	public AreaObjectPool getPool()
+	{
+		return this.pool;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Returns an object to the pool, if possible
+	 * @param construct An object constructed by this constructor
+	 * @return Was the object returned to the pool. If false, the object should be killed.
+	 */
+	public boolean recycle(Handled construct)
+	{
+		if (construct instanceof Recyclable)
+			return this.pool.release((Recyclable) construct);
+		return false;
+	}
+}
@@ -0,0 +1,30 @@
+package exodus_world;
+
+import genesis_event.Handled;
+import genesis_event.HandlerRelay;
+
+/**
+ * Recyclable objects can be stored in an {@link AreaObjectPool} when their area ends and 
+ * reused when an area needs new objects of the same type, instead of constructing new 
+ * ones.
+ *  
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public interface Recyclable extends Handled
+{
+	/**
+	 * This method is called when the object is returned to a pool. The object should stop 
+	 * being handled (for example by removing itself from its handlers) and release any 
+	 * state that shouldn't be carried over to its next use. The object must not be killed.
+	 */
+	public void recycle();
+	
+	/**
+	 * This method is called when the object is taken back into use from a pool. The object 
+	 * should reset its attributes and add itself to the provided handlers. The attributes 
+	 * read from the area's object file are set after this method has been called.
+	 * @param handlers The handlers that should handle the object from now on
+	 */
+	public void reinitialize(HandlerRelay handlers);
+}
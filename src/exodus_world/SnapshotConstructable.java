@@ -0,0 +1,45 @@
+package exodus_world;
+
+import java.util.Map;
+
+import flow_recording.Constructable;
+
+/**
+ * SnapshotConstructables are able to describe their current state so that they can be 
+ * written into a {@link WorldSnapshot} and constructed again when the snapshot is restored. 
+ * The objects of an area are only stored in the snapshot if all of them are 
+ * SnapshotConstructables. Otherwise they are constructed from the area's object file.
+ *   
+ * @author Mikko Hilpinen
+ * @param <T> The type of object constructed
+ * @since 18.10.2026
+ */
+public interface SnapshotConstructable<T extends Constructable<T>> extends Constructable<T>
+{
+	/**
+	 * @return The instruction that was used when the object was constructed. Null if no 
+	 * instruction was used.
+	 */
+	public String getConstructionInstruction();
+	
+	/**
+	 * This method should return the object's current attributes in a form that can be 
+	 * passed to {@link #setAttribute(String, String)}. The attributes are set in the 
+	 * returned order when the object is restored.
+	 * @return The object's current attributes (attribute name, attribute value)
+	 */
+	public Map<String, String> getAttributes();
+	
+	/**
+	 * @return The object's links to other objects in the same area (link name, target ID)
+	 */
+	public Map<String, String> getLinks();
+	
+	/**
+	 * @return A number that changes each time the object's attributes or links change. 
+	 * Incremental snapshots only contain the areas whose objects have changed since the 
+	 * previous snapshot.
+	 * @see WorldSnapshot#writeChanges(String)
+	 */
+	public long getSnapshotVersion();
+}
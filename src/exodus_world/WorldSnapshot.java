@@ -0,0 +1,536 @@
+package exodus_world;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import arc_bank.Bank;
+import exodus_world.CompiledAreaFiles.StringTable;
+import exodus_world.CompiledAreaFiles.StringTableBuilder;
+import flow_recording.ObjectFormatException;
+import flow_structure.GraphNode;
+
+/**
+ * WorldSnapshots save the state of the world (which areas are active, the objects in the 
+ * active areas and the positions in the area graphs) into compiled binary files and 
+ * restore it later. A full snapshot contains every area in the added banks. Incremental 
+ * snapshots only contain the areas that have started, ended or whose objects have changed 
+ * since the previous snapshot. The changes inside the objects are detected with 
+ * {@link SnapshotConstructable#getSnapshotVersion()}. Restoring a full snapshot and the 
+ * following incremental snapshots in order returns the world to the state of the latest 
+ * snapshot.<br>
+ * The objects of an area are only stored if they are all 
+ * {@link SnapshotConstructable}s and their constructor is an 
+ * {@link AreaObjectConstructor}. Otherwise they are created from the area's object file 
+ * when the area is restored, or left as they are if the area is already active. Snapshots 
+ * should be written and restored in the same thread that starts and ends the areas.
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see CompiledAreaFiles
+ */
+public class WorldSnapshot
+{
+	// ATTRIBUTES	--------------------------
+	
+	private final boolean compress;
+	private final List<String> areaBankNames = new ArrayList<>();
+	private final Map<String, GraphEntry<?>> graphs = new LinkedHashMap<>();
+	private final Map<Area, long[]> writtenVersions = new IdentityHashMap<>();
+	private boolean hasBase = false;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates a new snapshot. Area banks and graphs should be added to it before it is 
+	 * written.
+	 * @param compress Should the snapshot files be compressed
+	 */
+	public WorldSnapshot(boolean compress)
+	{
+		this.compress = compress;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Includes the areas of an area bank in the snapshots
+	 * @param areaBankName The name of the area bank
+	 */
+	public void addAreaBank(String areaBankName)
+	{
+		if (!this.areaBankNames.contains(areaBankName))
+			this.areaBankNames.add(areaBankName);
+	}
+	
+	/**
+	 * Includes an area graph in the snapshots. The graph's areas (that can be found by name) 
+	 * and connections are stored in full snapshots, while the current area is stored in 
+	 * each snapshot.
+	 * @param graphName The name the graph is stored with
+	 * @param graph The graph
+	 * @param codec The codec that writes and reads the data of the graph's edges
+	 */
+	public <T> void addGraph(String graphName, AreaGraph<T> graph, EdgeDataCodec<T> codec)
+	{
+		this.graphs.put(graphName, new GraphEntry<>(graph, codec));
+	}
+	
+	/**
+	 * Writes a full snapshot of the world
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @throws IOException If the writing failed
+	 */
+	public void write(String fileName) throws IOException
+	{
+		write(fileName, true);
+	}
+	
+	/**
+	 * Writes an incremental snapshot that contains the changes since the previous 
+	 * snapshot. If no full snapshot has been written yet, a full snapshot is written 
+	 * instead.
+	 * @param fileName The name of the file ("data/" automatically included)
+	 * @throws IOException If the writing failed
+	 */
+	public void writeChanges(String fileName) throws IOException
+	{
+		write(fileName, !this.hasBase);
+	}
+	
+	/**
+	 * Restores the world to the state described in the snapshots. Areas that should be 
+	 * active are started and the other areas in the snapshots are ended. The areas that are 
+	 * active before and after the restoration are restarted so that their objects can be 
+	 * replaced. If the snapshot doesn't contain the objects of such an area, the area is 
+	 * left running with its current objects.
+	 * @param fileNames The names of the snapshot files ("data/" automatically included). A 
+	 * full snapshot should be first, followed by the incremental snapshots in the order 
+	 * they were written.
+	 * @throws IOException If a file couldn't be read
+	 * @throws ObjectFormatException If the header of a file is malformed
+	 */
+	public void restore(String... fileNames) throws IOException, ObjectFormatException
+	{
+		// The later snapshots override the earlier ones
+		Map<Area, AreaRecord> areas = new LinkedHashMap<>();
+		for (String fileName : fileNames)
+		{
+			read(fileName, areas);
+		}
+		
+		// The areas are ended first so that their objects can be replaced. Restarting an 
+		// area whose objects weren't stored would only reset the objects.
+		List<Map.Entry<Area, AreaRecord>> startedAreas = new ArrayList<>();
+		for (Map.Entry<Area, AreaRecord> entry : areas.entrySet())
+		{
+			Area area = entry.getKey();
+			AreaRecord record = entry.getValue();
+			if (area.getIsActiveStateOperator().getState())
+			{
+				if (record.active && !record.containsObjects())
+					continue;
+				area.end();
+			}
+			
+			if (record.active)
+				startedAreas.add(entry);
+		}
+		for (Map.Entry<Area, AreaRecord> entry : startedAreas)
+		{
+			entry.getValue().restoreObjects(entry.getKey());
+			entry.getKey().start(false);
+		}
+		
+		for (GraphEntry<?> graph : this.graphs.values())
+		{
+			graph.restore();
+		}
+		
+		// The next incremental snapshot can't be based on the previously written ones
+		this.writtenVersions.clear();
+		this.hasBase = false;
+	}
+	
+	private void write(String fileName, boolean full) throws IOException
+	{
+		StringTableBuilder strings = new StringTableBuilder();
+		ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+		DataOutputStream body = new DataOutputStream(bodyBytes);
+		Map<Area, long[]> versions = new IdentityHashMap<>();
+		
+		body.writeInt(this.areaBankNames.size());
+		for (String bankName : this.areaBankNames)
+		{
+			// Only the areas that have changed are written incrementally
+			List<Area> areas = new ArrayList<>();
+			Bank<Area> bank = AreaBank.getAreaBank(bankName);
+			if (bank != null)
+			{
+				for (String areaName : bank.getContentNames())
+				{
+					Area area = bank.get(areaName);
+					long[] version = getVersions(area);
+					versions.put(area, version);
+					
+					long[] writtenVersion = this.writtenVersions.get(area);
+					if (full || writtenVersion == null || !Arrays.equals(writtenVersion, 
+							version))
+						areas.add(area);
+				}
+			}
+			
+			body.writeInt(strings.indexOf(bankName));
+			body.writeInt(areas.size());
+			for (Area area : areas)
+			{
+				writeArea(area, body, strings);
+			}
+		}
+		
+		body.writeInt(this.graphs.size());
+		for (Map.Entry<String, GraphEntry<?>> graph : this.graphs.entrySet())
+		{
+			body.writeInt(strings.indexOf(graph.getKey()));
+			graph.getValue().write(body, strings, full);
+		}
+		
+		body.flush();
+		CompiledAreaFiles.writeFile(fileName, CompiledAreaFiles.TYPE_SNAPSHOT, strings, 
+				bodyBytes.toByteArray(), this.compress);
+		
+		if (full)
+			this.writtenVersions.clear();
+		this.writtenVersions.putAll(versions);
+		this.hasBase = true;
+	}
+	
+	private void read(String fileName, Map<Area, AreaRecord> areas) throws IOException, 
+			ObjectFormatException
+	{
+		ByteBuffer payload = CompiledAreaFiles.openPayload(fileName, 
+				CompiledAreaFiles.TYPE_SNAPSHOT);
+		StringTable strings = new StringTable(payload);
+		DataInputStream body = CompiledAreaFiles.openBody(payload, strings);
+		
+		int bankAmount = body.readInt();
+		for (int bankIndex = 0; bankIndex < bankAmount; bankIndex++)
+		{
+			String bankName = strings.get(body.readInt());
+			int areaAmount = body.readInt();
+			for (int areaIndex = 0; areaIndex < areaAmount; areaIndex++)
+			{
+				String areaName = strings.get(body.readInt());
+				AreaRecord record = AreaRecord.read(body, strings);
+				
+				Area area = AreaBank.getArea(bankName, areaName);
+				if (area != null)
+					areas.put(area, record);
+			}
+		}
+		
+		int graphAmount = body.readInt();
+		for (int i = 0; i < graphAmount; i++)
+		{
+			GraphEntry<?> graph = this.graphs.get(strings.get(body.readInt()));
+			if (graph == null)
+				GraphEntry.skip(body);
+			else
+				graph.read(body, strings);
+		}
+	}
+	
+	private static long[] getVersions(Area area)
+	{
+		// The objects only exist while the area is active
+		if (!area.getIsActiveStateOperator().getState())
+			return new long[] {area.getStateVersion()};
+		
+		List<AreaObjectCreator<?>> creators = area.getObjectCreators();
+		List<List<?>> constructs = new ArrayList<>(creators.size());
+		int versionAmount = 1 + creators.size();
+		for (AreaObjectCreator<?> creator : creators)
+		{
+			List<?> creatorConstructs = creator.getLiveConstructs();
+			constructs.add(creatorConstructs);
+			versionAmount += creatorConstructs.size();
+		}
+		
+		long[] versions = new long[versionAmount];
+		int index = 0;
+		versions[index ++] = area.getStateVersion();
+		for (int i = 0; i < creators.size(); i++)
+		{
+			versions[index ++] = creators.get(i).getObjectVersion();
+			for (Object construct : constructs.get(i))
+			{
+				// The other objects are not written so their changes don't matter
+				if (construct instanceof SnapshotConstructable)
+					versions[index] = 
+							((SnapshotConstructable<?>) construct).getSnapshotVersion();
+				index ++;
+			}
+		}
+		
+		return versions;
+	}
+	
+	private static void writeArea(Area area, DataOutputStream body, 
+			StringTableBuilder strings) throws IOException
+	{
+		body.writeInt(strings.indexOf(area.getName()));
+		
+		// The objects only exist while the area is active
+		boolean active = area.getIsActiveStateOperator().getState();
+		body.writeBoolean(active);
+		if (!active)
+		{
+			body.writeShort(0);
+			return;
+		}
+		
+		List<AreaObjectCreator<?>> creators = area.getObjectCreators();
+		body.writeShort(creators.size());
+		for (AreaObjectCreator<?> creator : creators)
+		{
+			writeObjects(creator.getLiveConstructs(), body, strings);
+		}
+	}
+	
+	private static void writeObjects(List<?> constructs, DataOutputStream body, 
+			StringTableBuilder strings) throws IOException
+	{
+		for (Object construct : constructs)
+		{
+			if (!(construct instanceof SnapshotConstructable))
+			{
+				body.writeInt(-1);
+				return;
+			}
+		}
+		
+		body.writeInt(constructs.size());
+		for (Object c : constructs)
+		{
+			SnapshotConstructable<?> construct = (SnapshotConstructable<?>) c;
+			body.writeInt(strings.indexOf(construct.getConstructionInstruction()));
+			body.writeInt(strings.indexOf(construct.getID()));
+			
+			Map<String, String> attributes = construct.getAttributes();
+			body.writeShort(attributes.size());
+			for (Map.Entry<String, String> attribute : attributes.entrySet())
+			{
+				body.writeInt(strings.indexOf(attribute.getKey()));
+				CompiledAreaFiles.writeValue(attribute.getValue(), body, strings);
+			}
+			
+			Map<String, String> links = construct.getLinks();
+			body.writeShort(links.size());
+			for (Map.Entry<String, String> link : links.entrySet())
+			{
+				body.writeInt(strings.indexOf(link.getKey()));
+				body.writeInt(strings.indexOf(link.getValue()));
+			}
+		}
+	}
+	
+	
+	// SUBCLASSES	--------------------------
+	
+	private static class AreaRecord
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final boolean active;
+		// Null blueprints are created from the object files
+		private final AreaObjectBlueprint[] blueprints;
+		private final List<Map<String, Map<String, String>>> links;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		private AreaRecord(boolean active, int creatorAmount)
+		{
+			this.active = active;
+			this.blueprints = new AreaObjectBlueprint[creatorAmount];
+			this.links = new ArrayList<>(creatorAmount);
+		}
+		
+		
+		// ACCESSORS	----------------------
+		
+		public boolean containsObjects()
+		{
+			// The objects of each creator must be available
+			if (this.blueprints.length == 0)
+				return false;
+			
+			for (AreaObjectBlueprint blueprint : this.blueprints)
+			{
+				if (blueprint == null)
+					return false;
+			}
+			return true;
+		}
+		
+		
+		// OTHER METHODS	------------------
+		
+		public static AreaRecord read(DataInputStream body, StringTable strings) 
+				throws IOException
+		{
+			AreaRecord record = new AreaRecord(body.readBoolean(), body.readShort());
+			for (int creator = 0; creator < record.blueprints.length; creator++)
+			{
+				Map<String, Map<String, String>> links = new LinkedHashMap<>();
+				record.links.add(links);
+				
+				int entryAmount = body.readInt();
+				if (entryAmount < 0)
+					continue;
+				
+				List<AreaObjectBlueprint.Entry> entries = new ArrayList<>(entryAmount);
+				for (int i = 0; i < entryAmount; i++)
+				{
+					String instruction = strings.get(body.readInt());
+					String id = strings.get(body.readInt());
+					
+					String[] names = new String[body.readShort()];
+					String[] values = new String[names.length];
+					for (int attribute = 0; attribute < names.length; attribute++)
+					{
+						names[attribute] = strings.get(body.readInt());
+						values[attribute] = CompiledAreaFiles.readValue(body, strings);
+					}
+					entries.add(new AreaObjectBlueprint.Entry(instruction, id, names, values));
+					
+					int linkAmount = body.readShort();
+					if (linkAmount > 0)
+					{
+						Map<String, String> objectLinks = new LinkedHashMap<>();
+						for (int link = 0; link < linkAmount; link++)
+						{
+							objectLinks.put(strings.get(body.readInt()), 
+									strings.get(body.readInt()));
+						}
+						links.put(id, objectLinks);
+					}
+				}
+				
+				record.blueprints[creator] = new AreaObjectBlueprint(entries);
+			}
+			
+			return record;
+		}
+		
+		public void restoreObjects(Area area)
+		{
+			List<AreaObjectCreator<?>> creators = area.getObjectCreators();
+			for (int i = 0; i < creators.size() && i < this.blueprints.length; i++)
+			{
+				if (this.blueprints[i] != null)
+					creators.get(i).restoreObjects(this.blueprints[i], this.links.get(i));
+			}
+		}
+	}
+	
+	private static class GraphEntry<T>
+	{
+		// ATTRIBUTES	----------------------
+		
+		private final AreaGraph<T> graph;
+		private final EdgeDataCodec<T> codec;
+		
+		private boolean currentRestored = false;
+		private String restoredCurrent;
+		private AreaGraphFiles.Structure<T> restoredStructure;
+		
+		
+		// CONSTRUCTOR	----------------------
+		
+		public GraphEntry(AreaGraph<T> graph, EdgeDataCodec<T> codec)
+		{
+			this.graph = graph;
+			this.codec = codec;
+		}
+		
+		
+		// OTHER METHODS	------------------
+		
+		public void write(DataOutputStream body, StringTableBuilder strings, boolean full) 
+				throws IOException
+		{
+			GraphNode<Area, T> current = this.graph.getCurrentArea();
+			body.writeInt(strings.indexOf(current == null ? null : 
+					current.getData().getName()));
+			
+			// The structure of the graph is only written in full snapshots
+			body.writeBoolean(full);
+			if (full)
+				AreaGraphFiles.writeStructure(this.graph, this.codec, body, strings);
+		}
+		
+		public void read(DataInputStream body, StringTable strings) throws IOException
+		{
+			this.restoredCurrent = strings.get(body.readInt());
+			this.currentRestored = true;
+			if (body.readBoolean())
+				this.restoredStructure = AreaGraphFiles.readStructure(body, strings, 
+						this.codec);
+		}
+		
+		public static void skip(DataInputStream body) throws IOException
+		{
+			body.readInt();
+			if (body.readBoolean())
+				AreaGraphFiles.skipStructure(body);
+		}
+		
+		public void restore()
+		{
+			if (this.restoredStructure != null)
+			{
+				// The connections are only restored if the graph hasn't been built already
+				boolean hasEdges = false;
+				for (GraphNode<Area, T> node : this.graph.getIndexedAreas())
+				{
+					if (!node.getLeavingEdges().isEmpty())
+					{
+						hasEdges = true;
+						break;
+					}
+				}
+				
+				this.restoredStructure.addTo(this.graph, !hasEdges);
+			}
+			
+			if (this.currentRestored)
+				this.graph.setCurrentArea(this.restoredCurrent == null ? null : 
+						findOrAddArea(this.restoredCurrent));
+			
+			this.currentRestored = false;
+			this.restoredCurrent = null;
+			this.restoredStructure = null;
+		}
+		
+		private GraphNode<Area, T> findOrAddArea(String areaName)
+		{
+			GraphNode<Area, T> node = this.graph.findArea(areaName);
+			if (node == null && AreaBank.getArea(this.graph.getUsedBankName(), 
+					areaName) != null)
+				node = this.graph.addArea(areaName);
+			
+			return node;
+		}
+	}
+}
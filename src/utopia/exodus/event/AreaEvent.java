@@ -1,10 +1,11 @@
 package utopia.exodus.event;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import utopia.exodus.world.Area;
 import utopia.inception.event.Event;
+import utopia.inception.event.EventSelector;
 import utopia.inception.event.MultiEventSelector;
 import utopia.inception.event.StrictEventSelector;
 
@@ -17,8 +18,17 @@ public class AreaEvent implements Event
 {
 	// ATTRIBUTES	----------------
 	
-	private Area area;
-	private AreaStateChange stateChange;
+	// Shared selectors, created when first requested. Since they aren't modified, the 
+	// transitions they accept are known beforehand.
+	private static final StrictEventSelector[] sharedStateChangeSelectors = 
+			new StrictEventSelector[AreaStateChange.TRANSITION_AMOUNT];
+	private static final MultiEventSelector[] sharedStateStartsSelectors = 
+			new MultiEventSelector[Area.State.values().length];
+	private static final MultiEventSelector[] sharedStateEndsSelectors = 
+			new MultiEventSelector[Area.State.values().length];
+	
+	private final Area area;
+	private final AreaStateChange stateChange;
 	
 	
 	// CONSTRUCTOR	----------------
@@ -32,7 +42,7 @@ public class AreaEvent implements Event
 	public AreaEvent(Area source, Area.State previousState, Area.State newState)
 	{
 		this.area = source;
-		this.stateChange = new AreaStateChange(previousState, newState);
+		this.stateChange = AreaStateChange.of(previousState, newState);
 	}
 	
 	/**
@@ -52,9 +62,8 @@ public class AreaEvent implements Event
 	@Override
 	public List<Feature> getFeatures()
 	{
-		List<Feature> features = new ArrayList<>();
-		features.add(this.stateChange);
-		return features;
+		// The list is immutable and shared
+		return this.stateChange.features;
 	}
 	
 	
@@ -84,6 +93,7 @@ public class AreaEvent implements Event
 	 * @param startState The required area start state
 	 * @param endState The required area end state
 	 * @return The selector
+	 * @see #getStateChangeSelector(Area.State, Area.State)
 	 */
 	public static StrictEventSelector createStateChangeSelector(Area.State startState, Area.State endState)
 	{
@@ -96,6 +106,7 @@ public class AreaEvent implements Event
 	 * Creates an event selector which selects all events where area gains the provided state
 	 * @param startState The state that causes events when area gains it
 	 * @return The selector
+	 * @see #getStateStartsSelector(Area.State)
 	 */
 	public static MultiEventSelector createStateStartsSelector(Area.State startState)
 	{
@@ -113,6 +124,7 @@ public class AreaEvent implements Event
 	 * Creates an event selector which selects all events where area loses the provided state
 	 * @param endState The state that causes events when area loses it
 	 * @return The selector
+	 * @see #getStateEndsSelector(Area.State)
 	 */
 	public static MultiEventSelector createStateEndsSelector(Area.State endState)
 	{
@@ -126,6 +138,94 @@ public class AreaEvent implements Event
 		return selector;
 	}
 	
+	/**
+	 * Returns a shared selector that only selects events for specific area state changes. 
+	 * The same instance is returned on each call, so the selector shouldn't be modified.
+	 * @param startState The required area start state
+	 * @param endState The required area end state
+	 * @return The selector
+	 */
+	public static synchronized StrictEventSelector getStateChangeSelector( 
+			Area.State startState, Area.State endState)
+	{
+		int index = AreaStateChange.getTransitionIndex(startState, endState);
+		if (sharedStateChangeSelectors[index] == null)
+			sharedStateChangeSelectors[index] = createStateChangeSelector(startState, endState);
+		return sharedStateChangeSelectors[index];
+	}
+	
+	/**
+	 * Returns a shared selector which selects all events where area gains the provided 
+	 * state. The same instance is returned on each call, so the selector shouldn't be 
+	 * modified.
+	 * @param startState The state that causes events when area gains it
+	 * @return The selector
+	 */
+	public static synchronized MultiEventSelector getStateStartsSelector(Area.State startState)
+	{
+		int index = startState.ordinal();
+		if (sharedStateStartsSelectors[index] == null)
+			sharedStateStartsSelectors[index] = createStateStartsSelector(startState);
+		return sharedStateStartsSelectors[index];
+	}
+	
+	/**
+	 * Returns a shared selector which selects all events where area loses the provided 
+	 * state. The same instance is returned on each call, so the selector shouldn't be 
+	 * modified.
+	 * @param endState The state that causes events when area loses it
+	 * @return The selector
+	 */
+	public static synchronized MultiEventSelector getStateEndsSelector(Area.State endState)
+	{
+		int index = endState.ordinal();
+		if (sharedStateEndsSelectors[index] == null)
+			sharedStateEndsSelectors[index] = createStateEndsSelector(endState);
+		return sharedStateEndsSelectors[index];
+	}
+	
+	/**
+	 * Finds out which state transitions the selector accepts. This is only possible for 
+	 * the shared selectors, since other selectors may be modified after they were created.
+	 * @param selector An event selector
+	 * @return A bit mask where each bit represents a transition index that is accepted by 
+	 * the selector. -1 if the selector's behaviour is unknown.
+	 * @see AreaStateChange#getTransitionIndex()
+	 */
+	public static synchronized int getTransitionMask(EventSelector selector)
+	{
+		if (selector == null)
+			return -1;
+		
+		for (int i = 0; i < sharedStateChangeSelectors.length; i++)
+		{
+			if (sharedStateChangeSelectors[i] == selector)
+				return 1 << i;
+		}
+		
+		for (Area.State state : Area.State.values())
+		{
+			if (sharedStateStartsSelectors[state.ordinal()] == selector || 
+					sharedStateEndsSelectors[state.ordinal()] == selector)
+			{
+				boolean starts = sharedStateStartsSelectors[state.ordinal()] == selector;
+				int mask = 0;
+				for (Area.State other : Area.State.values())
+				{
+					if (other == state)
+						continue;
+					if (starts)
+						mask |= 1 << AreaStateChange.getTransitionIndex(state, other);
+					else
+						mask |= 1 << AreaStateChange.getTransitionIndex(other, state);
+				}
+				return mask;
+			}
+		}
+		
+		return -1;
+	}
+	
 	
 	// NESTED CLASSES	-------------
 	
@@ -137,8 +237,17 @@ public class AreaEvent implements Event
 	public static class AreaStateChange implements Feature
 	{
 		// ATTRIBUTES	-------------
+		
+		private static final int STATE_AMOUNT = Area.State.values().length;
+		/**
+		 * The amount of different transitions there are between the area states
+		 */
+		public static final int TRANSITION_AMOUNT = STATE_AMOUNT * STATE_AMOUNT;
+		private static final AreaStateChange[] canonicalChanges = createCanonicalChanges();
+		
+		private final List<Feature> features;
 
-		private Area.State previousState, newState;
+		private final Area.State previousState, newState;
 		
 		
 		// CONSTRUCTOR	-------------
@@ -152,6 +261,7 @@ public class AreaEvent implements Event
 		{
 			this.previousState = previousState;
 			this.newState = newState;
+			this.features = Collections.<Feature>singletonList(this);
 		}
 		
 		
@@ -204,5 +314,53 @@ public class AreaEvent implements Event
 		{
 			return this.newState;
 		}
+		
+		/**
+		 * @return An index that represents this transition [0, {@link #TRANSITION_AMOUNT})
+		 */
+		public int getTransitionIndex()
+		{
+			return getTransitionIndex(this.previousState, this.newState);
+		}
+		
+		
+		// OTHER METHODS	----------
+		
+		/**
+		 * @param previousState The state that was previously in place
+		 * @param newState The state that is currently in place
+		 * @return An index that represents the transition [0, {@link #TRANSITION_AMOUNT})
+		 */
+		public static int getTransitionIndex(Area.State previousState, Area.State newState)
+		{
+			return previousState.ordinal() * STATE_AMOUNT + newState.ordinal();
+		}
+		
+		/**
+		 * Finds the shared instance that represents the given state change. No new objects 
+		 * are created.
+		 * @param previousState The state that was previously in place
+		 * @param newState The state that is currently in place
+		 * @return A state change instance
+		 */
+		public static AreaStateChange of(Area.State previousState, Area.State newState)
+		{
+			return canonicalChanges[getTransitionIndex(previousState, newState)];
+		}
+		
+		private static AreaStateChange[] createCanonicalChanges()
+		{
+			AreaStateChange[] changes = new AreaStateChange[TRANSITION_AMOUNT];
+			for (Area.State previousState : Area.State.values())
+			{
+				for (Area.State newState : Area.State.values())
+				{
+					changes[getTransitionIndex(previousState, newState)] = 
+							new AreaStateChange(previousState, newState);
+				}
+			}
+			
+			return changes;
+		}
 	}
 }
@@ -1,12 +1,24 @@
 package utopia.exodus.event;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import utopia.inception.event.EventSelector;
 import utopia.inception.event.StrictEventSelector;
+import utopia.inception.handling.Handled;
 import utopia.inception.handling.Handler;
 import utopia.inception.handling.HandlerType;
 
 /**
- * This handler informs numerous listeners about area events
+ * This handler informs numerous listeners about area events. The listeners are divided into 
+ * buckets based on the state transitions their selectors accept so that each event only 
+ * visits the listeners that are interested in it. Listeners whose selectors can't be 
+ * analysed are placed into every bucket and checked separately for each event. The 
+ * listeners are informed in the order they were added. Events may be dispatched from 
+ * multiple threads and listeners may cause new events while they are being informed.
  * @author Mikko Hilpinen
  * @since 25.9.2016
  */
@@ -14,9 +26,38 @@ public class AreaListenerHandler extends Handler<AreaListener> implements AreaLi
 {
 	// ATTRIBUTES	-------------------
 	
-	private AreaEvent lastEvent = null;
+	// Each thread has its own stack of events being dispatched
+	private final ThreadLocal<Deque<AreaEvent>> dispatchedEvents = 
+			new ThreadLocal<Deque<AreaEvent>>()
+	{
+		@Override
+		protected Deque<AreaEvent> initialValue()
+		{
+			return new ArrayDeque<>();
+		}
+	};
 	// This handler doesn't filter any events
 	private final EventSelector selector = StrictEventSelector.createAllAcceptingSelector();
+	private final ListenerBucket[] transitionBuckets = 
+			new ListenerBucket[AreaEvent.AreaStateChange.TRANSITION_AMOUNT];
+	// These listeners' selectors are checked for each event
+	private final Set<AreaListener> checkedListeners = 
+			Collections.newSetFromMap(new ConcurrentHashMap<AreaListener, Boolean>());
+	
+	
+	// CONSTRUCTOR	-------------------
+	
+	/**
+	 * Creates a new handler
+	 */
+	public AreaListenerHandler()
+	{
+		// The buckets are created beforehand so that they can be used from multiple threads
+		for (int i = 0; i < this.transitionBuckets.length; i++)
+		{
+			this.transitionBuckets[i] = new ListenerBucket();
+		}
+	}
 	
 	
 	// IMPLEMENTED METHODS	-----------
@@ -25,9 +66,18 @@ public class AreaListenerHandler extends Handler<AreaListener> implements AreaLi
 	public void onAreaEvent(AreaEvent event)
 	{
 		// Informs the listeners of the event
-		this.lastEvent = event;
-		handleObjects(true);
-		this.lastEvent = null;
+		Deque<AreaEvent> events = this.dispatchedEvents.get();
+		events.push(event);
+		try
+		{
+			// Each bucket contains the listeners in the order they were added
+			this.transitionBuckets[event.getStateChange().getTransitionIndex()].handleObjects( 
+					true);
+		}
+		finally
+		{
+			events.pop();
+		}
 	}
 
 	@Override
@@ -46,9 +96,95 @@ public class AreaListenerHandler extends Handler<AreaListener> implements AreaLi
 	protected boolean handleObject(AreaListener h)
 	{
 		// Informs the listener about the event (if it is willing to accept it)
-		if (h.getAreaEventSelector().selects(this.lastEvent))
-			h.onAreaEvent(this.lastEvent);
+		AreaEvent event = getDispatchedEvent();
+		if (h.getAreaEventSelector().selects(event))
+			h.onAreaEvent(event);
 		
 		return true;
 	}
+	
+	@Override
+	public void add(AreaListener h)
+	{
+		super.add(h);
+		
+		// The transitions accepted by the listener are only checked once
+		int mask = getTransitionMask(h);
+		if (mask < 0)
+		{
+			this.checkedListeners.add(h);
+			mask = (1 << AreaEvent.AreaStateChange.TRANSITION_AMOUNT) - 1;
+		}
+		
+		for (int i = 0; i < this.transitionBuckets.length; i++)
+		{
+			if ((mask & (1 << i)) != 0)
+				this.transitionBuckets[i].add(h);
+		}
+	}
+	
+	@Override
+	public void removeHandled(Handled h)
+	{
+		super.removeHandled(h);
+		
+		for (ListenerBucket bucket : this.transitionBuckets)
+		{
+			bucket.removeHandled(h);
+		}
+		this.checkedListeners.remove(h);
+	}
+	
+	@Override
+	public void removeAllHandleds()
+	{
+		super.removeAllHandleds();
+		
+		for (ListenerBucket bucket : this.transitionBuckets)
+		{
+			bucket.removeAllHandleds();
+		}
+		this.checkedListeners.clear();
+	}
+	
+	
+	// OTHER METHODS	---------------
+	
+	private AreaEvent getDispatchedEvent()
+	{
+		return this.dispatchedEvents.get().peek();
+	}
+	
+	private static int getTransitionMask(AreaListener listener)
+	{
+		// Other listener handlers accept all events
+		if (listener instanceof AreaListenerHandler)
+			return (1 << AreaEvent.AreaStateChange.TRANSITION_AMOUNT) - 1;
+		return AreaEvent.getTransitionMask(listener.getAreaEventSelector());
+	}
+	
+	
+	// NESTED CLASSES	---------------
+	
+	private class ListenerBucket extends Handler<AreaListener>
+	{
+		// IMPLEMENTED METHODS	-------
+		
+		@Override
+		public HandlerType getHandlerType()
+		{
+			return ExodusHandlerType.AREA_LISTENER_HANDLER;
+		}
+		
+		@Override
+		protected boolean handleObject(AreaListener h)
+		{
+			AreaEvent event = getDispatchedEvent();
+			if (!AreaListenerHandler.this.checkedListeners.contains(h) || 
+					h.getAreaEventSelector().selects(event))
+				h.onAreaEvent(event);
+			
+			return true;
+		}
+	}
 }
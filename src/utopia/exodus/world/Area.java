@@ -1,11 +1,14 @@
 package utopia.exodus.world;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import utopia.exodus.event.AreaEvent;
 import utopia.exodus.event.AreaListenerHandler;
 import utopia.inception.handling.HandlerRelay;
 
 /**
  * Area is a collection of handlers tied to a certain setting. Areas have different states.
+ * The state may be changed from multiple threads.
  * @author Mikko Hilpinen
  * @since 2.12.2014
  */
@@ -20,7 +23,18 @@ public class Area
 	private String name;
 	private AreaListenerHandler listenerHandler;
 	private HandlerRelay handlers;
-	private State state = State.INACTIVE;
+	private final AtomicReference<State> state = new AtomicReference<>(State.INACTIVE);
+	// The state the handlers were last set to. Guarded by the state lock.
+	private State appliedState = State.INACTIVE;
+	private final Object stateLock = new Object();
+	private volatile AreaStateCoalescer coalescer = null;
+	// The events are immutable so each transition's event is only created once (or a few 
+	// times if multiple threads create it at once)
+	private final AreaEvent[] events = 
+			new AreaEvent[AreaEvent.AreaStateChange.TRANSITION_AMOUNT];
+	// The handler types kept in use in each state. Guarded by the state lock.
+	private final HandlerMask[] handlerMasks = new HandlerMask[State.values().length];
+	private final AreaMetrics metrics;
 	// TODO: Add phase start default state. Add states in general
 	
 	
@@ -38,11 +52,17 @@ public class Area
 		this.name = name;
 		this.handlers = handlers;
 		this.listenerHandler = new AreaListenerHandler();
+		this.metrics = new AreaMetrics(name);
+		
+		// By default, the handlers are only used while the area is active
+		for (State state : State.values())
+		{
+			this.handlerMasks[state.ordinal()] = 
+					state == State.ACTIVE ? HandlerMask.ALL : HandlerMask.NONE;
+		}
 		
 		// Sets the handling state to match that of the area
 		this.handlers.setHandlingStates(false);
-		// TODO: Add behavior configuration to enabling / disabling (Eg. Only drawing is 
-		//disabled on pause or all but drawing is disabled on pause / etc.)
 	}
 	
 	
@@ -72,27 +92,185 @@ public class Area
 		return this.listenerHandler;
 	}
 	
+	/**
+	 * @return The metrics that record how long the area's state changes take. The metrics 
+	 * need to be registered separately if they should be available through JMX.
+	 */
+	public AreaMetrics getMetrics()
+	{
+		return this.metrics;
+	}
+	
 	/**
 	 * @return The state the area is currently in
 	 */
 	public State getState()
 	{
-		return this.state;
+		return this.state.get();
 	}
 	
 	/**
-	 * Changes the area's state
+	 * Changes the area's state. If the area uses a coalescer, the handlers and listeners 
+	 * are only updated when the coalescer is flushed.<br>
+	 * When the state is changed from multiple threads at once, the listeners are informed 
+	 * of each transition exactly once, but the dispatches aren't serialized, so the 
+	 * transitions may reach the listeners in a different order than they happened. 
+	 * Listeners that need the current state should use {@link #getState()} instead of 
+	 * the order of the events. The handlers always follow the latest state.
 	 * @param state The new state the area is in
 	 */
 	public void setState(State state)
 	{
-		State previousState = this.state;
-		this.state = state;
-		getHandlers().setHandlingStates(getState() == State.ACTIVE);
+		onStateChange(this.state.getAndSet(state), state);
+	}
+	
+	/**
+	 * Changes the area's state, but only if the area is in the expected state. The check 
+	 * and the change are done atomically. The listeners are informed as in 
+	 * {@link #setState(State)}.
+	 * @param expectedState The state the area should be in
+	 * @param newState The new state the area is in
+	 * @return Was the state changed
+	 * @see #setState(State)
+	 */
+	public boolean compareAndSetState(State expectedState, State newState)
+	{
+		if (!this.state.compareAndSet(expectedState, newState))
+			return false;
+		
+		onStateChange(expectedState, newState);
+		return true;
+	}
+	
+	/**
+	 * @param state An area state
+	 * @return The mask that defines which handlers are used while the area is in that state
+	 */
+	public HandlerMask getHandlerMask(State state)
+	{
+		synchronized (this.stateLock)
+		{
+			return this.handlerMasks[state.ordinal()];
+		}
+	}
+	
+	/**
+	 * Changes which handlers are used while the area is in the given state. For example, 
+	 * a paused area may keep drawing while its other handlers are stopped. By default, 
+	 * all handlers are used in the active state and none in the other states.
+	 * @param state The state the mask is used in
+	 * @param mask The mask that defines which handlers are used in the state
+	 */
+	public void setHandlerMask(State state, HandlerMask mask)
+	{
+		synchronized (this.stateLock)
+		{
+			this.handlerMasks[state.ordinal()] = mask;
+			if (this.appliedState == state)
+				mask.applyTo(getHandlers());
+		}
+	}
+	
+	/**
+	 * Makes the area collect its state changes into the coalescer instead of applying them 
+	 * right away
+	 * @param coalescer The coalescer that collects the state changes (null if the changes 
+	 * should be applied immediately). Any pending state change is applied before the 
+	 * coalescer is changed.
+	 */
+	public void setStateCoalescer(AreaStateCoalescer coalescer)
+	{
+		AreaStateCoalescer previousCoalescer = this.coalescer;
+		if (previousCoalescer != null)
+			previousCoalescer.forget(this);
+		flushState();
+		
+		this.coalescer = coalescer;
+	}
+	
+	
+	// OTHER METHODS	---------------------
+	
+	/**
+	 * Applies the area's net state change since the previous time the state was applied. 
+	 * This is called by the coalescer.
+	 */
+	void flushState()
+	{
+		long startTime = System.nanoTime();
+		State previousState, newState;
+		synchronized (this.stateLock)
+		{
+			previousState = this.appliedState;
+			newState = getState();
+			
+			// Coalesced changes that lead back to the original state are skipped
+			if (previousState == newState)
+				return;
+			
+			applyHandlerMask(newState);
+		}
+		
+		informListeners(previousState, newState, startTime);
+	}
+	
+	private void onStateChange(State previousState, State newState)
+	{
+		AreaStateCoalescer coalescer = this.coalescer;
+		if (coalescer != null)
+		{
+			coalescer.record(this);
+			return;
+		}
+		
+		// The handlers are set according to the latest state, which may already differ 
+		// from the new state if another thread changed it
+		long startTime = System.nanoTime();
+		synchronized (this.stateLock)
+		{
+			applyHandlerMask(getState());
+		}
 		// TODO: Interact with the object creator as well
 		
-		// Informs listeners
-		getListenerHandler().onAreaEvent(new AreaEvent(this, previousState, this.state));
+		// Informs listeners. Each transition is informed exactly once.
+		informListeners(previousState, newState, startTime);
+	}
+	
+	private void informListeners(State previousState, State newState, long startTime)
+	{
+		AreaEvent event = getEvent(previousState, newState);
+		long dispatchStartTime = System.nanoTime();
+		getListenerHandler().onAreaEvent(event);
+		
+		long endTime = System.nanoTime();
+		this.metrics.recordListenerDispatch(event.getStateChange().getTransitionIndex(), 
+				endTime - dispatchStartTime);
+		this.metrics.recordStateChange(endTime - startTime);
+	}
+	
+	// Must be called while holding the state lock
+	private void applyHandlerMask(State newState)
+	{
+		HandlerMask previousMask = this.handlerMasks[this.appliedState.ordinal()];
+		HandlerMask newMask = this.handlerMasks[newState.ordinal()];
+		this.appliedState = newState;
+		
+		// The handlers are only touched when the mask changes
+		if (newMask != previousMask)
+			newMask.applyTo(getHandlers());
+	}
+	
+	private AreaEvent getEvent(State previousState, State newState)
+	{
+		int index = AreaEvent.AreaStateChange.getTransitionIndex(previousState, newState);
+		AreaEvent event = this.events[index];
+		if (event == null)
+		{
+			event = new AreaEvent(this, AreaEvent.AreaStateChange.of(previousState, newState));
+			this.events[index] = event;
+		}
+		
+		return event;
 	}
 	
 	
@@ -110,11 +288,13 @@ public class Area
 		 */
 		INACTIVE,
 		/**
-		 * The area is paused. All objects are present but the handlers are not in use.
+		 * The area is paused. All objects are present but the handlers are not in use 
+		 * (unless a handler mask states otherwise).
 		 */
 		PAUSED,
 		/**
-		 * The area is active. All objects are present and the handlers are working normally.
+		 * The area is active. All objects are present and the handlers are working normally 
+		 * (unless a handler mask states otherwise).
 		 */
 		ACTIVE;
 	}
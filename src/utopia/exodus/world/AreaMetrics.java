@@ -0,0 +1,176 @@
+package utopia.exodus.world;
+
+import utopia.exodus.event.AreaEvent;
+
+/**
+ * AreaMetrics records how long an area's state changes take and how long it takes to 
+ * inform the listeners about each state transition. Recording uses lock-free counters and 
+ * doesn't allocate memory, so the metrics can be left on. The metrics are not registered 
+ * to the platform MBeanServer automatically, since areas don't have a lifecycle of their 
+ * own.
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see Area#getMetrics()
+ */
+public class AreaMetrics extends RegisteredMetrics implements AreaMetricsMBean
+{
+	// ATTRIBUTES	--------------------------
+	
+	/**
+	 * The domain the metrics are registered under
+	 */
+	public static final String DOMAIN = "utopia.exodus.world";
+	
+	private final LatencyHistogram stateChanges = new LatencyHistogram();
+	private final LatencyHistogram[] dispatches = 
+			new LatencyHistogram[AreaEvent.AreaStateChange.TRANSITION_AMOUNT];
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates new metrics
+	 * @param areaName The name of the area the metrics are recorded for
+	 */
+	public AreaMetrics(String areaName)
+	{
+		super(DOMAIN, areaName);
+		
+		// The histograms are created beforehand so that recording doesn't allocate
+		for (int i = 0; i < this.dispatches.length; i++)
+		{
+			this.dispatches[i] = new LatencyHistogram();
+		}
+	}
+	
+	
+	// IMPLEMENTED METHODS	------------------
+	
+	@Override
+	public long getStateChangeCount()
+	{
+		return this.stateChanges.getCount();
+	}
+	
+	@Override
+	public double getStateChangeTimeMean()
+	{
+		return this.stateChanges.getMeanMillis();
+	}
+	
+	@Override
+	public double getStateChangeTime99thPercentile()
+	{
+		return this.stateChanges.getPercentileMillis(99);
+	}
+	
+	@Override
+	public double getStateChangeTimeMax()
+	{
+		return this.stateChanges.getMaxMillis();
+	}
+	
+	@Override
+	public String[] getTransitionNames()
+	{
+		String[] names = new String[this.dispatches.length];
+		for (Area.State previousState : Area.State.values())
+		{
+			for (Area.State newState : Area.State.values())
+			{
+				names[AreaEvent.AreaStateChange.getTransitionIndex(previousState, newState)] = 
+						previousState + "->" + newState;
+			}
+		}
+		
+		return names;
+	}
+	
+	@Override
+	public long[] getListenerDispatchCounts()
+	{
+		long[] counts = new long[this.dispatches.length];
+		for (int i = 0; i < counts.length; i++)
+		{
+			counts[i] = this.dispatches[i].getCount();
+		}
+		return counts;
+	}
+	
+	@Override
+	public double[] getListenerDispatchTimeMeans()
+	{
+		double[] means = new double[this.dispatches.length];
+		for (int i = 0; i < means.length; i++)
+		{
+			means[i] = this.dispatches[i].getMeanMillis();
+		}
+		return means;
+	}
+	
+	@Override
+	public double[] getListenerDispatchTime50thPercentiles()
+	{
+		return getDispatchPercentiles(50);
+	}
+	
+	@Override
+	public double[] getListenerDispatchTime99thPercentiles()
+	{
+		return getDispatchPercentiles(99);
+	}
+	
+	@Override
+	public double[] getListenerDispatchTimeMaxes()
+	{
+		double[] maxes = new double[this.dispatches.length];
+		for (int i = 0; i < maxes.length; i++)
+		{
+			maxes[i] = this.dispatches[i].getMaxMillis();
+		}
+		return maxes;
+	}
+	
+	@Override
+	public void reset()
+	{
+		this.stateChanges.reset();
+		for (LatencyHistogram dispatches : this.dispatches)
+		{
+			dispatches.reset();
+		}
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Records the time it took to apply a state change
+	 * @param nanos The duration of the state change in nanoseconds
+	 */
+	void recordStateChange(long nanos)
+	{
+		this.stateChanges.record(nanos);
+	}
+	
+	/**
+	 * Records the time it took to inform the listeners about a state transition
+	 * @param transitionIndex The index of the transition
+	 * @param nanos The duration in nanoseconds
+	 * @see AreaEvent.AreaStateChange#getTransitionIndex()
+	 */
+	void recordListenerDispatch(int transitionIndex, long nanos)
+	{
+		this.dispatches[transitionIndex].record(nanos);
+	}
+	
+	private double[] getDispatchPercentiles(double percentile)
+	{
+		double[] percentiles = new double[this.dispatches.length];
+		for (int i = 0; i < percentiles.length; i++)
+		{
+			percentiles[i] = this.dispatches[i].getPercentileMillis(percentile);
+		}
+		return percentiles;
+	}
+}
@@ -0,0 +1,74 @@
+package utopia.exodus.world;
+
+/**
+ * This is the management interface of {@link AreaMetrics}. The durations are reported in 
+ * milliseconds. The percentiles are accurate to a power of two. The listener dispatch 
+ * values are reported separately for each state transition, in the same order as 
+ * {@link #getTransitionNames()}.
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public interface AreaMetricsMBean
+{
+	/**
+	 * @return The name of the area
+	 */
+	public String getAreaName();
+	
+	/**
+	 * @return How many times the area's state has been applied
+	 */
+	public long getStateChangeCount();
+	
+	/**
+	 * @return The average time it took to apply a state change, including the listener 
+	 * dispatch
+	 */
+	public double getStateChangeTimeMean();
+	
+	/**
+	 * @return The 99th percentile of the time it took to apply a state change
+	 */
+	public double getStateChangeTime99thPercentile();
+	
+	/**
+	 * @return The longest time it took to apply a state change
+	 */
+	public double getStateChangeTimeMax();
+	
+	/**
+	 * @return The names of the state transitions (previousState->newState)
+	 */
+	public String[] getTransitionNames();
+	
+	/**
+	 * @return How many events of each transition have been dispatched to the listeners
+	 */
+	public long[] getListenerDispatchCounts();
+	
+	/**
+	 * @return The average time it took to inform the listeners about each transition
+	 */
+	public double[] getListenerDispatchTimeMeans();
+	
+	/**
+	 * @return The median time it took to inform the listeners about each transition
+	 */
+	public double[] getListenerDispatchTime50thPercentiles();
+	
+	/**
+	 * @return The 99th percentile of the time it took to inform the listeners about each 
+	 * transition
+	 */
+	public double[] getListenerDispatchTime99thPercentiles();
+	
+	/**
+	 * @return The longest time it took to inform the listeners about each transition
+	 */
+	public double[] getListenerDispatchTimeMaxes();
+	
+	/**
+	 * Removes all the recorded durations and counts
+	 */
+	public void reset();
+}
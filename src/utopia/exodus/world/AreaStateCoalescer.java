@@ -0,0 +1,92 @@
+package utopia.exodus.world;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * AreaStateCoalescer collects the state changes of areas so that they can be applied all at 
+ * once, usually at the end of a tick. Each area's handlers are updated and listeners informed 
+ * only once per flush, based on the area's net state change. If an area ends up in the state 
+ * it started from, nothing happens. The coalescer may be used from multiple threads.
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see Area#setStateCoalescer(AreaStateCoalescer)
+ */
+public class AreaStateCoalescer
+{
+	// ATTRIBUTES	--------------------------
+	
+	private Set<Area> pendingAreas = new LinkedHashSet<>();
+	// The set is swapped with the pending areas on each flush. Null while a flush uses it.
+	private Set<Area> spareAreas = new LinkedHashSet<>();
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return How many areas currently have state changes waiting for a flush
+	 */
+	public synchronized int getPendingAreaAmount()
+	{
+		return this.pendingAreas.size();
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Applies the recorded state changes. The areas are handled in the order in which they 
+	 * first changed state after the previous flush.
+	 */
+	public void flush()
+	{
+		// The areas may change state again while the listeners are being informed, in which 
+		// case they are applied during the next flush
+		Set<Area> areas;
+		synchronized (this)
+		{
+			if (this.pendingAreas.isEmpty())
+				return;
+			
+			// A new set is only needed when flushes overlap
+			areas = this.pendingAreas;
+			this.pendingAreas = this.spareAreas != null ? this.spareAreas : 
+					new LinkedHashSet<Area>();
+			this.spareAreas = null;
+		}
+		
+		try
+		{
+			for (Area area : areas)
+			{
+				area.flushState();
+			}
+		}
+		finally
+		{
+			areas.clear();
+			synchronized (this)
+			{
+				this.spareAreas = areas;
+			}
+		}
+	}
+	
+	/**
+	 * Records that the area's state has changed
+	 * @param area The area whose state changed
+	 */
+	synchronized void record(Area area)
+	{
+		this.pendingAreas.add(area);
+	}
+	
+	/**
+	 * Removes the area from the pending areas without applying its state
+	 * @param area The area that should be removed
+	 */
+	synchronized void forget(Area area)
+	{
+		this.pendingAreas.remove(area);
+	}
+}
@@ -0,0 +1,114 @@
+package utopia.exodus.world;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import utopia.inception.handling.HandlerRelay;
+import utopia.inception.handling.HandlerType;
+
+/**
+ * HandlerMask defines which types of handlers are kept in use while an area is in a 
+ * certain state. The masks are immutable.
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ * @see Area#setHandlerMask(utopia.exodus.world.Area.State, HandlerMask)
+ */
+public class HandlerMask
+{
+	// ATTRIBUTES	--------------------------
+	
+	/**
+	 * A mask that keeps all the handlers in use
+	 */
+	public static final HandlerMask ALL = new HandlerMask(null);
+	/**
+	 * A mask that stops all the handlers
+	 */
+	public static final HandlerMask NONE = new HandlerMask( 
+			Collections.<HandlerType>emptySet());
+	
+	// Null when all handler types are included
+	private final Set<HandlerType> types;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	private HandlerMask(Set<HandlerType> types)
+	{
+		this.types = types;
+	}
+	
+	/**
+	 * Creates a mask that only keeps handlers of the given types in use
+	 * @param types The handler types that are kept in use
+	 * @return A mask that includes the given types
+	 */
+	public static HandlerMask of(HandlerType... types)
+	{
+		if (types.length == 0)
+			return NONE;
+		return new HandlerMask(Collections.unmodifiableSet( 
+				new HashSet<>(Arrays.asList(types))));
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return Does this mask keep all the handlers in use
+	 */
+	public boolean includesAll()
+	{
+		return this.types == null;
+	}
+	
+	/**
+	 * @return Does this mask stop all the handlers
+	 */
+	public boolean includesNone()
+	{
+		return this.types != null && this.types.isEmpty();
+	}
+	
+	/**
+	 * @return The handler types kept in use by this mask. Null if all the types are kept 
+	 * in use.
+	 */
+	public Set<HandlerType> getTypes()
+	{
+		return this.types;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * @param type A handler type
+	 * @return Does this mask keep handlers of the given type in use
+	 */
+	public boolean includes(HandlerType type)
+	{
+		return this.types == null || this.types.contains(type);
+	}
+	
+	/**
+	 * Sets the handling states of the handlers to match this mask
+	 * @param handlers The handlers that are affected
+	 */
+	void applyTo(HandlerRelay handlers)
+	{
+		if (this.types == null || this.types.isEmpty())
+			handlers.setHandlingStates(this.types == null);
+		else
+		{
+			// Only the selected types are left in use
+			handlers.setHandlingStates(false);
+			for (HandlerType type : this.types)
+			{
+				handlers.setHandlingState(type, true);
+			}
+		}
+	}
+}
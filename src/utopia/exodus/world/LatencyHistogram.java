@@ -0,0 +1,130 @@
+package utopia.exodus.world;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram records durations into buckets whose sizes grow in powers of two. 
+ * Recording is lock-free and doesn't allocate memory, so the histogram can be used on hot 
+ * paths. The percentiles are accurate to the bucket size, which means that they may be up 
+ * to twice the actual value.
+ *   
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public class LatencyHistogram
+{
+	// ATTRIBUTES	--------------------------
+	
+	// Bucket i contains the durations in range [2^(i - 1), 2^i) nanoseconds
+	private final AtomicLongArray buckets = new AtomicLongArray(64);
+	private final AtomicLong count = new AtomicLong(), totalNanos = new AtomicLong(), 
+			maxNanos = new AtomicLong();
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return How many durations have been recorded
+	 */
+	public long getCount()
+	{
+		return this.count.get();
+	}
+	
+	/**
+	 * @return The sum of the recorded durations in milliseconds
+	 */
+	public double getTotalMillis()
+	{
+		return toMillis(this.totalNanos.get());
+	}
+	
+	/**
+	 * @return The average recorded duration in milliseconds
+	 */
+	public double getMeanMillis()
+	{
+		long count = getCount();
+		if (count == 0)
+			return 0;
+		return toMillis(this.totalNanos.get()) / count;
+	}
+	
+	/**
+	 * @return The longest recorded duration in milliseconds
+	 */
+	public double getMaxMillis()
+	{
+		return toMillis(this.maxNanos.get());
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Records a duration
+	 * @param nanos The duration in nanoseconds
+	 */
+	public void record(long nanos)
+	{
+		if (nanos < 0)
+			nanos = 0;
+		
+		this.buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(nanos));
+		this.count.incrementAndGet();
+		this.totalNanos.addAndGet(nanos);
+		
+		long max = this.maxNanos.get();
+		while (nanos > max && !this.maxNanos.compareAndSet(max, nanos))
+		{
+			max = this.maxNanos.get();
+		}
+	}
+	
+	/**
+	 * Finds the duration that is longer than the given portion of the recorded durations
+	 * @param percentile The portion of the durations [0, 100]
+	 * @return The upper limit of the durations in milliseconds
+	 */
+	public double getPercentileMillis(double percentile)
+	{
+		long count = getCount();
+		if (count == 0)
+			return 0;
+		
+		long target = (long) Math.ceil(count * percentile / 100.0);
+		long seen = 0;
+		for (int i = 0; i < this.buckets.length(); i++)
+		{
+			seen += this.buckets.get(i);
+			if (seen >= target)
+			{
+				// The bucket's upper limit is used, but it can't exceed the maximum
+				long upperLimit = i == 0 ? 0 : (i >= 63 ? Long.MAX_VALUE : 1L << i);
+				return toMillis(Math.min(upperLimit, this.maxNanos.get()));
+			}
+		}
+		
+		return getMaxMillis();
+	}
+	
+	/**
+	 * Removes all the recorded durations
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < this.buckets.length(); i++)
+		{
+			this.buckets.set(i, 0);
+		}
+		this.count.set(0);
+		this.totalNanos.set(0);
+		this.maxNanos.set(0);
+	}
+	
+	private static double toMillis(long nanos)
+	{
+		return nanos / 1000000.0;
+	}
+}
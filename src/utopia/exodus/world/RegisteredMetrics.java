@@ -0,0 +1,110 @@
+package utopia.exodus.world;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * RegisteredMetrics is the common implementation of the area metrics of both area 
+ * systems. It handles the registration to the platform MBeanServer, while the subclasses 
+ * record the values themselves, usually with {@link LatencyHistogram}s.
+ * @author Mikko Hilpinen
+ * @since 18.10.2026
+ */
+public abstract class RegisteredMetrics
+{
+	// ATTRIBUTES	--------------------------
+	
+	private static final AtomicLong nextID = new AtomicLong();
+	
+	private final String domain;
+	private final String areaName;
+	private ObjectName objectName = null;
+	
+	
+	// CONSTRUCTOR	--------------------------
+	
+	/**
+	 * Creates new metrics
+	 * @param domain The domain the metrics are registered under
+	 * @param areaName The name of the area the metrics are recorded for
+	 */
+	protected RegisteredMetrics(String domain, String areaName)
+	{
+		this.domain = domain;
+		this.areaName = areaName;
+	}
+	
+	
+	// ACCESSORS	--------------------------
+	
+	/**
+	 * @return The name of the area
+	 */
+	public String getAreaName()
+	{
+		return this.areaName;
+	}
+	
+	/**
+	 * @return The name the metrics are registered with. Null if the metrics aren't 
+	 * registered.
+	 */
+	public synchronized ObjectName getObjectName()
+	{
+		return this.objectName;
+	}
+	
+	
+	// OTHER METHODS	----------------------
+	
+	/**
+	 * Registers the metrics to the platform MBeanServer. The metrics should be unregistered 
+	 * once the area is no longer used. If the metrics can't be registered, they are still 
+	 * recorded but can't be observed.
+	 * @see #unregister()
+	 */
+	public synchronized void register()
+	{
+		if (this.objectName != null)
+			return;
+		
+		try
+		{
+			// The identifier separates areas with the same name
+			ObjectName name = new ObjectName(this.domain + ":type=AreaMetrics,area=" + 
+					ObjectName.quote(String.valueOf(this.areaName)) + ",id=" + 
+					nextID.getAndIncrement());
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+			this.objectName = name;
+		}
+		catch (JMException e)
+		{
+			// The metrics stay unregistered
+		}
+	}
+	
+	/**
+	 * Removes the metrics from the platform MBeanServer
+	 */
+	public synchronized void unregister()
+	{
+		if (this.objectName == null)
+			return;
+		
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try
+		{
+			if (server.isRegistered(this.objectName))
+				server.unregisterMBean(this.objectName);
+		}
+		catch (JMException e)
+		{
+			// The registration is forgotten in any case so that it isn't tried again
+		}
+		this.objectName = null;
+	}
+}